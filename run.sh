@@ -289,7 +289,8 @@ show_menu_and_run() {
                 
                 # Run benchmark
                 echo "Iniciando benchmarks JMH..."
-                if java -jar target/benchmarks.jar -rf csv -rff benchmark_results.csv; then
+                # O main do SortingBenchmark pula algoritmos quadráticos em tamanhos grandes
+                if java -cp target/benchmarks.jar br.edu.ufabc.energy.benchmark.SortingBenchmark; then
                     echo "✓ Benchmark JMH executado com sucesso!"
                     echo "✓ Resultados salvos em benchmark_results.csv"
                 else
@@ -0,0 +1,167 @@
+package br.edu.ufabc.energy.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registro público dos algoritmos de ordenação com seus metadados.
+ *
+ * Os benchmarks iteram sobre este enum: um algoritmo novo só precisa ser
+ * registrado aqui para ser medido pelo SimpleBenchmark e pelo SortingBenchmark.
+ */
+public enum AlgorithmRegistry implements SortingAlgorithm {
+
+    BUBBLE_SORT("BubbleSort", SortingAlgorithms::bubbleSort,
+        true, true, false, Complexity.QUADRATIC),
+    QUICK_SORT("QuickSort", SortingAlgorithms::quickSort,
+        // Pivô no último elemento: quadrático e recursão profunda em entradas ordenadas
+        false, true, false, Complexity.LINEARITHMIC, 100_000),
+    MERGE_SORT("MergeSort", SortingAlgorithms::mergeSort,
+        true, false, false, Complexity.LINEARITHMIC),
+    MULTIWAY_MERGE_SORT("MultiwayMergeSort", SortingAlgorithms::multiwayMergeSort,
+        false, false, false, Complexity.LINEARITHMIC),
+    INSERTION_SORT("InsertionSort", SortingAlgorithms::insertionSort,
+        true, true, false, Complexity.QUADRATIC),
+    SELECTION_SORT("SelectionSort", SortingAlgorithms::selectionSort,
+        false, true, false, Complexity.QUADRATIC),
+    HEAP_SORT("HeapSort", SortingAlgorithms::heapSort,
+        false, true, false, Complexity.LINEARITHMIC),
+    JAVA_SORT("JavaSort", SortingAlgorithms::javaSort,
+        false, true, false, Complexity.LINEARITHMIC),
+    AUTO_SORT("AutoSort", SortingAlgorithms::autoSort,
+        // Depende do algoritmo escolhido pelo perfil; metadados conservadores
+        false, false, false, Complexity.LINEARITHMIC) {
+        @Override
+        public boolean isParallel() {
+            // Só quando alguma faixa do perfil leva ao javaSort acima do limiar de paralelismo
+            return SortingAlgorithms.getProfile().usesParallelSort();
+        }
+    },
+    ADAPTIVE_BUBBLE_SORT("AdaptiveBubbleSort", SortingAlgorithms::adaptiveBubbleSort,
+        true, true, false, Complexity.QUADRATIC),
+    COCKTAIL_SORT("CocktailSort", SortingAlgorithms::cocktailSort,
+        true, true, false, Complexity.QUADRATIC),
+    BINARY_INSERTION_SORT("BinaryInsertionSort", SortingAlgorithms::binaryInsertionSort,
+        true, true, false, Complexity.QUADRATIC),
+    ADAPTIVE_SELECTION_SORT("AdaptiveSelectionSort", SortingAlgorithms::adaptiveSelectionSort,
+        false, true, false, Complexity.QUADRATIC),
+    SHELL_SORT_CIURA("ShellSortCiura", SortingAlgorithms::shellSortCiura,
+        false, true, false, Complexity.SUBQUADRATIC),
+    SHELL_SORT_TOKUDA("ShellSortTokuda", SortingAlgorithms::shellSortTokuda,
+        false, true, false, Complexity.SUBQUADRATIC),
+    RADIX_SORT("RadixSort", SortingAlgorithms::radixSort,
+        true, false, false, Complexity.LINEAR);
+
+    /**
+     * Classe de complexidade no pior caso (ou caso médio, quando indicado no registro)
+     */
+    public enum Complexity {
+        QUADRATIC(10_000),
+        SUBQUADRATIC(10_000_000),
+        LINEARITHMIC(Integer.MAX_VALUE),
+        LINEAR(Integer.MAX_VALUE);
+
+        private final int defaultMaxRecommendedSize;
+
+        Complexity(int defaultMaxRecommendedSize) {
+            this.defaultMaxRecommendedSize = defaultMaxRecommendedSize;
+        }
+
+        public int getDefaultMaxRecommendedSize() {
+            return defaultMaxRecommendedSize;
+        }
+    }
+
+    private final String displayName;
+    private final SortingAlgorithm implementation;
+    private final boolean stable;
+    private final boolean inPlace;
+    private final boolean parallel;
+    private final Complexity complexity;
+    private final int maxRecommendedSize;
+
+    AlgorithmRegistry(String displayName, SortingAlgorithm implementation,
+                      boolean stable, boolean inPlace, boolean parallel, Complexity complexity) {
+        this(displayName, implementation, stable, inPlace, parallel, complexity,
+            complexity.getDefaultMaxRecommendedSize());
+    }
+
+    AlgorithmRegistry(String displayName, SortingAlgorithm implementation,
+                      boolean stable, boolean inPlace, boolean parallel, Complexity complexity,
+                      int maxRecommendedSize) {
+        this.displayName = displayName;
+        this.implementation = implementation;
+        this.stable = stable;
+        this.inPlace = inPlace;
+        this.parallel = parallel;
+        this.complexity = complexity;
+        this.maxRecommendedSize = maxRecommendedSize;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        implementation.sort(array);
+    }
+
+    /**
+     * Nome usado nas saídas dos benchmarks (ex.: "BubbleSort")
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isStable() {
+        return stable;
+    }
+
+    /**
+     * true se o algoritmo usa memória auxiliar O(1) ou O(log n)
+     */
+    public boolean isInPlace() {
+        return inPlace;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public Complexity getComplexity() {
+        return complexity;
+    }
+
+    /**
+     * Maior tamanho de entrada que vale a pena medir com este algoritmo
+     */
+    public int getMaxRecommendedSize() {
+        return maxRecommendedSize;
+    }
+
+    public boolean isRecommendedFor(int size) {
+        return size <= maxRecommendedSize;
+    }
+
+    /**
+     * Algoritmos recomendados para um tamanho, na ordem do registro
+     */
+    public static List<AlgorithmRegistry> recommendedFor(int size) {
+        List<AlgorithmRegistry> result = new ArrayList<>();
+        for (AlgorithmRegistry algorithm : values()) {
+            if (algorithm.isRecommendedFor(size)) {
+                result.add(algorithm);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Procura pelo nome do enum ou pelo nome de exibição, sem diferenciar maiúsculas
+     */
+    public static AlgorithmRegistry fromName(String name) {
+        for (AlgorithmRegistry algorithm : values()) {
+            if (algorithm.name().equalsIgnoreCase(name) || algorithm.displayName.equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sorting algorithm: " + name);
+    }
+}
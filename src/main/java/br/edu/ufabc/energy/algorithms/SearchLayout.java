@@ -0,0 +1,30 @@
+package br.edu.ufabc.energy.algorithms;
+
+/**
+ * Estrutura de busca estática construída a partir de um int[] ordenado.
+ * As posições retornadas são índices no array ordenado de origem.
+ */
+public interface SearchLayout {
+
+    /**
+     * @return número de elementos indexados
+     */
+    int size();
+
+    /**
+     * Índice do primeiro elemento >= key no array ordenado, ou size() se todos forem menores
+     */
+    int lowerBound(int key);
+
+    /**
+     * Quantidade de elementos no intervalo [from, to)
+     */
+    default int countInRange(int from, int to) {
+        return from < to ? lowerBound(to) - lowerBound(from) : 0;
+    }
+
+    /**
+     * Elementos do intervalo [from, to), em ordem crescente
+     */
+    int[] rangeQuery(int from, int to);
+}
@@ -0,0 +1,74 @@
+package br.edu.ufabc.energy.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Construtores de estruturas de busca a partir da saída ordenada de SortingAlgorithms.
+ * O array de entrada deve estar em ordem crescente; ele é copiado, não referenciado,
+ * exceto pela busca binária, que trabalha sobre o próprio array.
+ */
+public class SearchLayouts {
+
+    /**
+     * Busca binária sobre o próprio array ordenado (linha de base)
+     */
+    public static SearchLayout binarySearch(int[] sorted) {
+        return new BinarySearch(sorted);
+    }
+
+    /**
+     * Layout de Eytzinger com descida sem desvios
+     */
+    public static SearchLayout eytzinger(int[] sorted) {
+        return new EytzingerLayout(sorted);
+    }
+
+    /**
+     * B+-tree estática com nós de 16 chaves
+     */
+    public static SearchLayout staticBPlusTree(int[] sorted) {
+        return new StaticBPlusTree(sorted);
+    }
+
+    /**
+     * Lower bound por busca binária clássica: a cada nível o acesso cai numa linha de
+     * cache diferente, e em arrays grandes quase todos os níveis são falhas de cache
+     */
+    private static final class BinarySearch implements SearchLayout {
+
+        private final int[] sorted;
+
+        BinarySearch(int[] sorted) {
+            this.sorted = sorted;
+        }
+
+        @Override
+        public int size() {
+            return sorted.length;
+        }
+
+        @Override
+        public int lowerBound(int key) {
+            // Arrays.binarySearch não garante a primeira ocorrência entre duplicatas
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public int[] rangeQuery(int from, int to) {
+            if (from >= to) {
+                return new int[0];
+            }
+            return Arrays.copyOfRange(sorted, lowerBound(from), lowerBound(to));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.edu.ufabc.energy.algorithms;
+
+/**
+ * Algoritmo de ordenação in-place sobre int[]
+ */
+@FunctionalInterface
+public interface SortingAlgorithm {
+    void sort(int[] array);
+}
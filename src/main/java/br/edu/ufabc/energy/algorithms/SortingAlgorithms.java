@@ -1,5 +1,7 @@
 package br.edu.ufabc.energy.algorithms;
 
+import br.edu.ufabc.energy.util.PackedIntArray;
+
 import java.util.Arrays;
 
 /**
@@ -7,6 +9,63 @@ import java.util.Arrays;
  */
 public class SortingAlgorithms {
 
+    // Blocos de 256 KB (64K ints) cabem na L2 da maioria dos processadores atuais
+    private static final int L2_BLOCK_SIZE = 1 << 16;
+    // Número máximo de runs intercaladas em uma passada do multiway merge
+    private static final int MAX_MERGE_FAN_IN = 1024;
+    // Chave de uma run esgotada na árvore de perdedores (maior que qualquer int)
+    private static final long EXHAUSTED_RUN = Long.MAX_VALUE;
+    // Dígitos de 8 bits: os 256 contadores (1 KB) ficam na L1 durante a distribuição
+    private static final int RADIX_BITS = 8;
+    // Bloco desempacotado de 4K ints (16 KB), também dentro da L1
+    private static final int PACKED_BLOCK_SIZE = 1 << 12;
+    // Buffer de escrita por balde: 256 baldes x 32 ints = 32 KB
+    private static final int PACKED_BUCKET_BUFFER = 32;
+
+    // Sequências de gaps do Shell sort, em ordem crescente
+    private static final int[] CIURA_GAPS = ciuraGaps();
+    private static final int[] TOKUDA_GAPS = tokudaGaps();
+
+    // Perfil da máquina gerado pelo AutoTuner; padrões quando não há arquivo.
+    // Só o autoSort o usa: as versões sem parâmetros ficam nas constantes fixas,
+    // para que as linhas de base dos benchmarks não dependam de um arquivo no diretório
+    private static final TuningProfile PROFILE = TuningProfile.loadDefault();
+
+    /**
+     * Perfil de ajuste carregado na inicialização da classe (usado pelo autoSort)
+     */
+    public static TuningProfile getProfile() {
+        return PROFILE;
+    }
+
+    /**
+     * Ordena com o algoritmo que o perfil recomenda para o tamanho do array,
+     * usando o cutoff e o limiar de paralelismo do perfil
+     */
+    public static void autoSort(int[] arr) {
+        String algorithm = PROFILE.algorithmFor(arr.length);
+        switch (algorithm) {
+            case "insertionSort":
+                insertionSort(arr);
+                break;
+            case "quickSort":
+                quickSort(arr, PROFILE.getInsertionSortCutoff());
+                break;
+            case "mergeSort":
+                mergeSort(arr, PROFILE.getInsertionSortCutoff());
+                break;
+            case "heapSort":
+                heapSort(arr);
+                break;
+            case "javaSort":
+                javaSort(arr, PROFILE.getParallelThreshold());
+                break;
+            default:
+                // O TuningProfile rejeita nomes fora de TuningProfile.ALGORITHMS
+                throw new IllegalStateException("Unknown profile algorithm: " + algorithm);
+        }
+    }
+
     /**
      * Bubble Sort - O(n²) complexidade
      */
@@ -24,18 +83,84 @@ public class SortingAlgorithms {
         }
     }
 
+    /**
+     * Bubble Sort adaptativo - O(n²) no pior caso, O(n) em arrays já ordenados.
+     * Para quando uma passada não faz trocas e encolhe o limite até a última troca.
+     */
+    public static void adaptiveBubbleSort(int[] arr) {
+        int end = arr.length - 1;
+        while (end > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < end; j++) {
+                if (arr[j] > arr[j + 1]) {
+                    int temp = arr[j];
+                    arr[j] = arr[j + 1];
+                    arr[j + 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            // Tudo depois da última troca já está na posição final
+            end = lastSwap;
+        }
+    }
+
+    /**
+     * Cocktail Sort (bubble sort bidirecional) - O(n²) no pior caso, O(n) em arrays já ordenados.
+     * Alterna passadas para frente e para trás, movendo rapidamente elementos
+     * pequenos que estão no fim do array.
+     */
+    public static void cocktailSort(int[] arr) {
+        int start = 0;
+        int end = arr.length - 1;
+        while (start < end) {
+            int lastSwap = start;
+            for (int j = start; j < end; j++) {
+                if (arr[j] > arr[j + 1]) {
+                    int temp = arr[j];
+                    arr[j] = arr[j + 1];
+                    arr[j + 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            end = lastSwap;
+
+            lastSwap = end;
+            for (int j = end; j > start; j--) {
+                if (arr[j - 1] > arr[j]) {
+                    int temp = arr[j];
+                    arr[j] = arr[j - 1];
+                    arr[j - 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            start = lastSwap;
+        }
+    }
+
     /**
      * Quick Sort - O(n log n) complexidade média
      */
     public static void quickSort(int[] arr) {
-        quickSort(arr, 0, arr.length - 1);
+        quickSort(arr, TuningProfile.DEFAULT_INSERTION_SORT_CUTOFF);
+    }
+
+    /**
+     * Quick Sort com cutoff explícito: subarrays com até insertionCutoff elementos
+     * são ordenados por insertion sort (0 desativa)
+     */
+    public static void quickSort(int[] arr, int insertionCutoff) {
+        quickSort(arr, 0, arr.length - 1, insertionCutoff);
     }
 
-    private static void quickSort(int[] arr, int low, int high) {
+    private static void quickSort(int[] arr, int low, int high, int cutoff) {
+        if (high - low < cutoff) {
+            insertionSort(arr, low, high);
+            return;
+        }
         if (low < high) {
             int pi = partition(arr, low, high);
-            quickSort(arr, low, pi - 1);
-            quickSort(arr, pi + 1, high);
+            quickSort(arr, low, pi - 1, cutoff);
+            quickSort(arr, pi + 1, high, cutoff);
         }
     }
 
@@ -63,14 +188,26 @@ public class SortingAlgorithms {
      * Merge Sort - O(n log n) complexidade
      */
     public static void mergeSort(int[] arr) {
-        mergeSort(arr, 0, arr.length - 1);
+        mergeSort(arr, TuningProfile.DEFAULT_INSERTION_SORT_CUTOFF);
+    }
+
+    /**
+     * Merge Sort com cutoff explícito: subarrays com até insertionCutoff elementos
+     * são ordenados por insertion sort (0 desativa)
+     */
+    public static void mergeSort(int[] arr, int insertionCutoff) {
+        mergeSort(arr, 0, arr.length - 1, insertionCutoff);
     }
 
-    private static void mergeSort(int[] arr, int left, int right) {
+    private static void mergeSort(int[] arr, int left, int right, int cutoff) {
+        if (right - left < cutoff) {
+            insertionSort(arr, left, right);
+            return;
+        }
         if (left < right) {
             int middle = left + (right - left) / 2;
-            mergeSort(arr, left, middle);
-            mergeSort(arr, middle + 1, right);
+            mergeSort(arr, left, middle, cutoff);
+            mergeSort(arr, middle + 1, right, cutoff);
             merge(arr, left, middle, right);
         }
     }
@@ -111,6 +248,135 @@ public class SortingAlgorithms {
         }
     }
 
+    /**
+     * Multiway Merge Sort - O(n log n) complexidade, consciente de cache.
+     * Ordena blocos do tamanho da L2 dentro do cache e depois intercala muitos blocos
+     * de uma vez com uma árvore de perdedores, de modo que o array inteiro atravessa a
+     * memória uma ou duas vezes em vez de log2(n) vezes como no mergeSort binário.
+     */
+    public static void multiwayMergeSort(int[] arr) {
+        multiwayMergeSort(arr, L2_BLOCK_SIZE, MAX_MERGE_FAN_IN);
+    }
+
+    /**
+     * Multiway Merge Sort com tamanho de bloco e fan-in explícitos
+     */
+    public static void multiwayMergeSort(int[] arr, int blockSize, int maxFanIn) {
+        if (blockSize < 1 || maxFanIn < 2) {
+            throw new IllegalArgumentException("blockSize must be >= 1 and maxFanIn >= 2");
+        }
+        int n = arr.length;
+        if (n <= blockSize) {
+            Arrays.sort(arr);
+            return;
+        }
+
+        // Fase 1: ordena cada bloco dentro do cache
+        int runs = (n + blockSize - 1) / blockSize;
+        int[] bounds = new int[runs + 1];
+        for (int r = 0; r < runs; r++) {
+            bounds[r] = r * blockSize;
+            Arrays.sort(arr, bounds[r], Math.min(n, bounds[r] + blockSize));
+        }
+        bounds[runs] = n;
+
+        // Fase 2: passadas de intercalação k-way até sobrar uma única run
+        int[] src = arr;
+        int[] dst = new int[n];
+        while (runs > 1) {
+            int fanIn = balancedFanIn(runs, maxFanIn);
+            int groups = (runs + fanIn - 1) / fanIn;
+            int[] nextBounds = new int[groups + 1];
+            for (int g = 0; g < groups; g++) {
+                int first = g * fanIn;
+                int last = Math.min(runs, first + fanIn);
+                multiwayMerge(src, dst, bounds, first, last);
+                nextBounds[g] = bounds[first];
+            }
+            nextBounds[groups] = n;
+
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+            bounds = nextBounds;
+            runs = groups;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // Menor fan-in que ainda conclui no mesmo número de passadas que maxFanIn,
+    // para que as árvores de perdedores sejam rasas e as passadas equilibradas
+    private static int balancedFanIn(int runs, int maxFanIn) {
+        int passes = 1;
+        long capacity = maxFanIn;
+        while (capacity < runs) {
+            capacity *= maxFanIn;
+            passes++;
+        }
+        int fanIn = Math.max(2, (int) Math.ceil(Math.pow(runs, 1.0 / passes)));
+        while (Math.pow(fanIn, passes) < runs) {
+            fanIn++;
+        }
+        return Math.min(fanIn, maxFanIn);
+    }
+
+    // Intercala as runs [firstRun, lastRun) de src em dst usando uma árvore de perdedores
+    private static void multiwayMerge(int[] src, int[] dst, int[] bounds, int firstRun, int lastRun) {
+        int k = lastRun - firstRun;
+        int out = bounds[firstRun];
+        int total = bounds[lastRun] - out;
+        if (k == 1) {
+            System.arraycopy(src, out, dst, out, total);
+            return;
+        }
+
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        long[] keys = new long[k];
+        for (int i = 0; i < k; i++) {
+            pos[i] = bounds[firstRun + i];
+            end[i] = bounds[firstRun + i + 1];
+            keys[i] = pos[i] < end[i] ? src[pos[i]] : EXHAUSTED_RUN;
+        }
+
+        // tree[1..k-1] guarda o perdedor de cada nó interno; as folhas k..2k-1 são as runs
+        int[] tree = new int[k];
+        int winner = buildLoserTree(tree, keys, 1, k);
+
+        for (int m = 0; m < total; m++) {
+            dst[out++] = (int) keys[winner];
+
+            int p = ++pos[winner];
+            keys[winner] = p < end[winner] ? src[p] : EXHAUSTED_RUN;
+
+            // Refaz apenas o caminho da folha vencedora até a raiz
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                int challenger = tree[node];
+                if (keys[challenger] < keys[winner]) {
+                    tree[node] = winner;
+                    winner = challenger;
+                }
+            }
+        }
+    }
+
+    private static int buildLoserTree(int[] tree, long[] keys, int node, int k) {
+        if (node >= k) {
+            return node - k;
+        }
+        int left = buildLoserTree(tree, keys, 2 * node, k);
+        int right = buildLoserTree(tree, keys, 2 * node + 1, k);
+        if (keys[left] <= keys[right]) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
     /**
      * Insertion Sort - O(n²) complexidade
      */
@@ -128,6 +394,50 @@ public class SortingAlgorithms {
         }
     }
 
+    /**
+     * Binary Insertion Sort - O(n log n) comparações, O(n²) movimentações no pior caso.
+     * Busca a posição por busca binária e desloca o bloco com System.arraycopy;
+     * elementos já em ordem são pulados com uma única comparação.
+     */
+    public static void binaryInsertionSort(int[] arr) {
+        int n = arr.length;
+        for (int i = 1; i < n; i++) {
+            int key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // Primeira posição em [0, i) com valor maior que key (mantém a estabilidade)
+            int low = 0;
+            int high = i - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arr[mid] > key) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            System.arraycopy(arr, low, arr, low + 1, i - low);
+            arr[low] = key;
+        }
+    }
+
+    // Insertion sort sobre o intervalo [low, high], usado como caso base dos algoritmos recursivos
+    private static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
     /**
      * Selection Sort - O(n²) complexidade
      */
@@ -148,11 +458,110 @@ public class SortingAlgorithms {
         }
     }
 
+    /**
+     * Selection Sort adaptativo - O(n²) no pior caso, O(n) em arrays já ordenados.
+     * A busca do mínimo também verifica se o restante já está em ordem, e nesse caso
+     * para; elementos que já estão na posição final não são trocados consigo mesmos.
+     */
+    public static void adaptiveSelectionSort(int[] arr) {
+        int n = arr.length;
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+            boolean sorted = true;
+            for (int j = i + 1; j < n; j++) {
+                if (arr[j] < arr[minIdx]) {
+                    minIdx = j;
+                }
+                sorted &= arr[j - 1] <= arr[j];
+            }
+            // O restante [i, n) já está em ordem: nada mais a fazer
+            if (sorted) {
+                return;
+            }
+
+            if (minIdx != i) {
+                int temp = arr[minIdx];
+                arr[minIdx] = arr[i];
+                arr[i] = temp;
+            }
+        }
+    }
+
+    /**
+     * Shell Sort com a sequência de gaps de Ciura (1, 4, 10, 23, 57, ...) - subquadrático, in-place
+     */
+    public static void shellSortCiura(int[] arr) {
+        shellSort(arr, CIURA_GAPS);
+    }
+
+    /**
+     * Shell Sort com a sequência de gaps de Tokuda (1, 4, 9, 20, 46, ...) - subquadrático, in-place
+     */
+    public static void shellSortTokuda(int[] arr) {
+        shellSort(arr, TOKUDA_GAPS);
+    }
+
+    private static void shellSort(int[] arr, int[] gaps) {
+        int n = arr.length;
+        int g = gaps.length - 1;
+        while (g > 0 && gaps[g] >= n) {
+            g--;
+        }
+
+        for (; g >= 0; g--) {
+            int gap = gaps[g];
+            for (int i = gap; i < n; i++) {
+                int key = arr[i];
+                int j = i;
+                while (j >= gap && arr[j - gap] > key) {
+                    arr[j] = arr[j - gap];
+                    j -= gap;
+                }
+                arr[j] = key;
+            }
+        }
+    }
+
+    // Gaps empíricos de Ciura, estendidos com h = floor(2.25 * h)
+    private static int[] ciuraGaps() {
+        int[] known = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+        int[] gaps = Arrays.copyOf(known, 40);
+        int count = known.length;
+        long h = known[known.length - 1];
+        while ((h = (long) (h * 2.25)) < Integer.MAX_VALUE) {
+            gaps[count++] = (int) h;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    // Gaps de Tokuda: h = ceil(h'), com h'(1) = 1 e h'(k) = 2.25 * h'(k-1) + 1
+    private static int[] tokudaGaps() {
+        int[] gaps = new int[40];
+        int count = 0;
+        for (double h = 1.0; Math.ceil(h) < Integer.MAX_VALUE; h = 2.25 * h + 1.0) {
+            gaps[count++] = (int) Math.ceil(h);
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
     /**
      * Arrays.sort() - Implementação otimizada do Java (Dual-Pivot Quicksort)
      */
     public static void javaSort(int[] arr) {
-        Arrays.sort(arr);
+        javaSort(arr, TuningProfile.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Arrays.sort() com limiar explícito: arrays com pelo menos parallelThreshold
+     * elementos usam Arrays.parallelSort()
+     */
+    public static void javaSort(int[] arr, int parallelThreshold) {
+        if (arr.length >= parallelThreshold) {
+            Arrays.parallelSort(arr);
+        } else {
+            Arrays.sort(arr);
+        }
     }
 
     /**
@@ -203,5 +612,135 @@ public class SortingAlgorithms {
             heapify(arr, n, largest);
         }
     }
-}
 
+    /**
+     * Radix Sort LSD - O(n) complexidade, estável, com dígitos de 8 bits.
+     * O bit de sinal é invertido no dígito mais significativo para ordenar negativos.
+     */
+    public static void radixSort(int[] arr) {
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        int passes = Integer.SIZE / RADIX_BITS;
+        int digitMask = (1 << RADIX_BITS) - 1;
+
+        // Histogramas de todas as passadas numa única leitura do array
+        int[][] counts = new int[passes][1 << RADIX_BITS];
+        for (int value : arr) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][signedDigit(value, pass, passes, digitMask)]++;
+            }
+        }
+
+        int[] src = arr;
+        int[] dst = new int[n];
+        for (int pass = 0; pass < passes; pass++) {
+            int[] offsets = counts[pass];
+            if (!toOffsets(offsets, n)) {
+                continue; // Todos os valores têm o mesmo dígito: a passada não muda nada
+            }
+            for (int value : src) {
+                dst[offsets[signedDigit(value, pass, passes, digitMask)]++] = value;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    private static int signedDigit(int value, int pass, int passes, int digitMask) {
+        int digit = (value >>> (pass * RADIX_BITS)) & digitMask;
+        // Inverte o bit de sinal no dígito mais significativo
+        return pass == passes - 1 ? digit ^ (1 << (RADIX_BITS - 1)) : digit;
+    }
+
+    /**
+     * Radix Sort LSD direto sobre o array empacotado. A largura do array é dividida
+     * em dígitos iguais de no máximo 8 bits (27 bits viram 4 dígitos de 7), e cada
+     * passada desempacota a origem em blocos que cabem na L1. Os valores de cada balde
+     * se acumulam num buffer pequeno e são empacotados no destino em sequência, em vez
+     * de uma leitura-modificação-escrita aleatória por elemento. Nunca existe um int[]
+     * do tamanho da entrada.
+     */
+    public static void radixSort(PackedIntArray arr) {
+        int n = arr.size();
+        if (n < 2) {
+            return;
+        }
+        int bits = arr.getBitsPerValue();
+        int passes = (bits + RADIX_BITS - 1) / RADIX_BITS;
+        int digitBits = (bits + passes - 1) / passes;
+        int digitMask = (1 << digitBits) - 1;
+        int[] block = new int[Math.min(n, PACKED_BLOCK_SIZE)];
+
+        int[][] counts = new int[passes][1 << digitBits];
+        for (int start = 0; start < n; start += block.length) {
+            int length = Math.min(block.length, n - start);
+            arr.unpack(start, block, 0, length);
+            for (int i = 0; i < length; i++) {
+                for (int pass = 0; pass < passes; pass++) {
+                    counts[pass][(block[i] >>> (pass * digitBits)) & digitMask]++;
+                }
+            }
+        }
+
+        PackedIntArray src = arr;
+        PackedIntArray dst = new PackedIntArray(n, bits);
+        int[] buffers = new int[(digitMask + 1) * PACKED_BUCKET_BUFFER];
+        int[] buffered = new int[digitMask + 1];
+        for (int pass = 0; pass < passes; pass++) {
+            int[] offsets = counts[pass];
+            if (!toOffsets(offsets, n)) {
+                continue;
+            }
+            int shift = pass * digitBits;
+            for (int start = 0; start < n; start += block.length) {
+                int length = Math.min(block.length, n - start);
+                src.unpack(start, block, 0, length);
+                for (int i = 0; i < length; i++) {
+                    int value = block[i];
+                    int digit = (value >>> shift) & digitMask;
+                    int base = digit * PACKED_BUCKET_BUFFER;
+                    buffers[base + buffered[digit]++] = value;
+                    if (buffered[digit] == PACKED_BUCKET_BUFFER) {
+                        dst.pack(buffers, base, offsets[digit], PACKED_BUCKET_BUFFER);
+                        offsets[digit] += PACKED_BUCKET_BUFFER;
+                        buffered[digit] = 0;
+                    }
+                }
+            }
+            for (int digit = 0; digit <= digitMask; digit++) {
+                dst.pack(buffers, digit * PACKED_BUCKET_BUFFER, offsets[digit], buffered[digit]);
+                buffered[digit] = 0;
+            }
+            PackedIntArray temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) {
+            arr.copyFrom(src);
+        }
+    }
+
+    /**
+     * Converte contagens em posições iniciais de cada balde.
+     *
+     * @return false se todos os n valores caem no mesmo balde
+     */
+    private static boolean toOffsets(int[] counts, int n) {
+        int sum = 0;
+        for (int digit = 0; digit < counts.length; digit++) {
+            int count = counts[digit];
+            if (count == n) {
+                return false;
+            }
+            counts[digit] = sum;
+            sum += count;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package br.edu.ufabc.energy.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * B+-tree estática (S+-tree) sobre um array ordenado, com nós de 16 chaves:
+ * 64 bytes, uma linha de cache e a largura de um registrador AVX-512.
+ *
+ * As folhas são o próprio array ordenado, preenchido até múltiplo de 16, e cada
+ * nível interno guarda, para cada grupo de 17 filhos, a primeira chave dos filhos
+ * 1..16. Todos os níveis ficam num único int[], da raiz para as folhas, e a posição
+ * de um filho é calculada, sem ponteiros. A busca dentro do nó conta as chaves
+ * menores que a procurada num laço sem desvios sobre as 16 chaves; a altura é
+ * log17(n/16), contra log2(n) níveis da busca binária.
+ */
+public final class StaticBPlusTree implements SearchLayout {
+
+    static final int NODE_SIZE = 16;
+    private static final int FAN_OUT = NODE_SIZE + 1;
+    // Preenche nós incompletos; nunca é contado como menor que uma chave
+    private static final int PADDING = Integer.MAX_VALUE;
+
+    private final int[] keys;
+    // Início de cada nível em keys, da raiz (0) às folhas (height - 1)
+    private final int[] levelOffset;
+    private final int n;
+
+    StaticBPlusTree(int[] sorted) {
+        this.n = sorted.length;
+
+        // Quantidade de nós por nível, das folhas para a raiz
+        int leafNodes = Math.max(1, (n + NODE_SIZE - 1) / NODE_SIZE);
+        int height = 1;
+        for (int nodes = leafNodes; nodes > 1; nodes = (nodes + FAN_OUT - 1) / FAN_OUT) {
+            height++;
+        }
+        int[] nodesPerLevel = new int[height];
+        nodesPerLevel[height - 1] = leafNodes;
+        for (int level = height - 2; level >= 0; level--) {
+            nodesPerLevel[level] = (nodesPerLevel[level + 1] + FAN_OUT - 1) / FAN_OUT;
+        }
+
+        levelOffset = new int[height];
+        long total = 0;
+        for (int level = 0; level < height; level++) {
+            levelOffset[level] = (int) total;
+            total += (long) nodesPerLevel[level] * NODE_SIZE;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Array too large for a static B+-tree: " + n);
+        }
+
+        keys = new int[(int) total];
+        Arrays.fill(keys, PADDING);
+        int leaves = levelOffset[height - 1];
+        System.arraycopy(sorted, 0, keys, leaves, n);
+
+        // Cada separador é a primeira chave da subárvore do filho seguinte,
+        // ou seja, o menor elemento da folha mais à esquerda dessa subárvore
+        for (int level = height - 2; level >= 0; level--) {
+            int leavesPerChild = pow(FAN_OUT, height - 2 - level);
+            for (int node = 0; node < nodesPerLevel[level]; node++) {
+                for (int j = 0; j < NODE_SIZE; j++) {
+                    long child = (long) node * FAN_OUT + j + 1;
+                    long firstLeaf = child * leavesPerChild;
+                    if (firstLeaf < leafNodes) {
+                        keys[levelOffset[level] + node * NODE_SIZE + j] = keys[leaves + (int) firstLeaf * NODE_SIZE];
+                    }
+                }
+            }
+        }
+    }
+
+    private static int pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result = Math.min(Integer.MAX_VALUE, result * base);
+        }
+        return (int) result;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public int lowerBound(int key) {
+        int node = 0;
+        int last = levelOffset.length - 1;
+        for (int level = 0; level < last; level++) {
+            node = node * FAN_OUT + countLess(levelOffset[level] + node * NODE_SIZE, key);
+        }
+        // Se todas as chaves da folha forem menores, o resultado é o início da folha seguinte
+        int position = node * NODE_SIZE + countLess(levelOffset[last] + node * NODE_SIZE, key);
+        return Math.min(position, n);
+    }
+
+    // Contagem sem desvios das chaves do nó menores que key
+    private int countLess(int start, int key) {
+        int count = 0;
+        for (int j = 0; j < NODE_SIZE; j++) {
+            count += keys[start + j] < key ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public int[] rangeQuery(int from, int to) {
+        if (from >= to) {
+            return new int[0];
+        }
+        int start = lowerBound(from);
+        int end = lowerBound(to);
+        // As folhas guardam o array ordenado contíguo: o intervalo é uma cópia só
+        return Arrays.copyOfRange(keys, levelOffset[levelOffset.length - 1] + start,
+            levelOffset[levelOffset.length - 1] + end);
+    }
+}
@@ -0,0 +1,321 @@
+package br.edu.ufabc.energy.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Ordenação de chaves textuais (String[] e byte[][]) que examina cada caractere
+ * uma única vez, em vez de recomparar prefixos compartilhados como faz
+ * Arrays.sort com compareTo.
+ *
+ * A ordem é a mesma de String.compareTo (unidades UTF-16) e de
+ * Arrays.compareUnsigned para byte[]. Nenhum dos algoritmos aloca por caractere:
+ * o MSD radix sort usa um único array auxiliar e um array de contagem por nível
+ * de profundidade, reaproveitado entre partições.
+ */
+public class StringSortingAlgorithms {
+
+    // Dígitos de 8 bits; em String cada char é tratado como dois dígitos (byte alto, byte baixo)
+    private static final int RADIX = 256;
+    // Partições menores que estes limites vão para o insertion sort a partir da profundidade atual
+    private static final int MSD_CUTOFF = 16;
+    private static final int MULTIKEY_CUTOFF = 12;
+
+    /**
+     * MSD Radix Sort para String - O(N·w) no pior caso, com w o tamanho médio das chaves
+     */
+    public static void msdRadixSort(String[] arr) {
+        if (arr.length < 2) {
+            return;
+        }
+        msdRadixSort(arr, new String[arr.length], new CountBuffers(), 0, arr.length - 1, 0);
+    }
+
+    private static void msdRadixSort(String[] arr, String[] aux, CountBuffers buffers, int low, int high, int d) {
+        while (high - low >= MSD_CUTOFF) {
+            int[] count = buffers.forDepth(d);
+            for (int i = low; i <= high; i++) {
+                count[digit(arr[i], d) + 2]++;
+            }
+
+            // Todas as chaves no mesmo bucket (prefixo comum): só avança a profundidade
+            int single = singleBucket(count, high - low + 1);
+            if (single >= 0) {
+                if (single == 1) {
+                    return; // Todas terminaram: são iguais
+                }
+                d++;
+                continue;
+            }
+
+            for (int r = 0; r < RADIX + 1; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = low; i <= high; i++) {
+                aux[count[digit(arr[i], d) + 1]++] = arr[i];
+            }
+            System.arraycopy(aux, 0, arr, low, high - low + 1);
+
+            // count[r] agora é o início do bucket r; o bucket das chaves terminadas já está pronto
+            for (int r = 0; r < RADIX; r++) {
+                msdRadixSort(arr, aux, buffers, low + count[r], low + count[r + 1] - 1, d + 1);
+            }
+            return;
+        }
+        insertionSort(arr, low, high, d >> 1);
+    }
+
+    /**
+     * MSD Radix Sort para chaves byte[], em ordem sem sinal
+     */
+    public static void msdRadixSort(byte[][] arr) {
+        if (arr.length < 2) {
+            return;
+        }
+        msdRadixSort(arr, new byte[arr.length][], new CountBuffers(), 0, arr.length - 1, 0);
+    }
+
+    private static void msdRadixSort(byte[][] arr, byte[][] aux, CountBuffers buffers, int low, int high, int d) {
+        while (high - low >= MSD_CUTOFF) {
+            int[] count = buffers.forDepth(d);
+            for (int i = low; i <= high; i++) {
+                count[digit(arr[i], d) + 2]++;
+            }
+
+            int single = singleBucket(count, high - low + 1);
+            if (single >= 0) {
+                if (single == 1) {
+                    return;
+                }
+                d++;
+                continue;
+            }
+
+            for (int r = 0; r < RADIX + 1; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = low; i <= high; i++) {
+                aux[count[digit(arr[i], d) + 1]++] = arr[i];
+            }
+            System.arraycopy(aux, 0, arr, low, high - low + 1);
+
+            for (int r = 0; r < RADIX; r++) {
+                msdRadixSort(arr, aux, buffers, low + count[r], low + count[r + 1] - 1, d + 1);
+            }
+            return;
+        }
+        insertionSort(arr, low, high, d);
+    }
+
+    /**
+     * Multikey Quicksort (quicksort de 3 vias por caractere) para String
+     */
+    public static void multikeyQuickSort(String[] arr) {
+        multikeyQuickSort(arr, 0, arr.length - 1, 0);
+    }
+
+    private static void multikeyQuickSort(String[] arr, int low, int high, int d) {
+        while (high - low >= MULTIKEY_CUTOFF) {
+            swap(arr, low, medianOfThree(arr, low, low + (high - low) / 2, high, d));
+            int pivot = charAt(arr[low], d);
+
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int c = charAt(arr[i], d);
+                if (c < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (c > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            multikeyQuickSort(arr, low, lt - 1, d);
+            multikeyQuickSort(arr, gt + 1, high, d);
+            if (pivot < 0) {
+                return; // A partição do meio tem só chaves terminadas, todas iguais
+            }
+            // A partição do meio segue no próximo caractere sem recursão,
+            // para que prefixos longos não aprofundem a pilha
+            low = lt;
+            high = gt;
+            d++;
+        }
+        insertionSort(arr, low, high, d);
+    }
+
+    /**
+     * Multikey Quicksort para chaves byte[], em ordem sem sinal
+     */
+    public static void multikeyQuickSort(byte[][] arr) {
+        multikeyQuickSort(arr, 0, arr.length - 1, 0);
+    }
+
+    private static void multikeyQuickSort(byte[][] arr, int low, int high, int d) {
+        while (high - low >= MULTIKEY_CUTOFF) {
+            swap(arr, low, medianOfThree(arr, low, low + (high - low) / 2, high, d));
+            int pivot = digit(arr[low], d);
+
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int c = digit(arr[i], d);
+                if (c < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (c > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            multikeyQuickSort(arr, low, lt - 1, d);
+            multikeyQuickSort(arr, gt + 1, high, d);
+            if (pivot < 0) {
+                return;
+            }
+            low = lt;
+            high = gt;
+            d++;
+        }
+        insertionSort(arr, low, high, d);
+    }
+
+    /**
+     * Ordenação de referência: Arrays.sort com comparação sem sinal
+     */
+    public static void javaSort(byte[][] arr) {
+        Arrays.sort(arr, Arrays::compareUnsigned);
+    }
+
+    /**
+     * Contagens por profundidade do MSD radix sort; cada nível reutiliza o seu array
+     * entre partições irmãs, então a alocação é proporcional ao tamanho da chave
+     */
+    private static final class CountBuffers {
+        private int[][] counts = new int[16][];
+
+        int[] forDepth(int d) {
+            if (d >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(d + 1, counts.length * 2));
+            }
+            int[] count = counts[d];
+            if (count == null) {
+                count = new int[RADIX + 2];
+                counts[d] = count;
+            } else {
+                Arrays.fill(count, 0);
+            }
+            return count;
+        }
+    }
+
+    // Índice do bucket que contém todas as n chaves, ou -1
+    private static int singleBucket(int[] count, int n) {
+        for (int r = 1; r < count.length; r++) {
+            if (count[r] == n) {
+                return r;
+            }
+            if (count[r] != 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    // Dígito d de uma String: byte alto e byte baixo de cada char; -1 após o fim
+    private static int digit(String s, int d) {
+        int index = d >> 1;
+        if (index >= s.length()) {
+            return -1;
+        }
+        char c = s.charAt(index);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+
+    private static int digit(byte[] key, int d) {
+        return d < key.length ? key[d] & 0xFF : -1;
+    }
+
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    private static int medianOfThree(String[] arr, int i, int j, int k, int d) {
+        int a = charAt(arr[i], d);
+        int b = charAt(arr[j], d);
+        int c = charAt(arr[k], d);
+        if (a < b) {
+            return b < c ? j : (a < c ? k : i);
+        }
+        return a < c ? i : (b < c ? k : j);
+    }
+
+    private static int medianOfThree(byte[][] arr, int i, int j, int k, int d) {
+        int a = digit(arr[i], d);
+        int b = digit(arr[j], d);
+        int c = digit(arr[k], d);
+        if (a < b) {
+            return b < c ? j : (a < c ? k : i);
+        }
+        return a < c ? i : (b < c ? k : j);
+    }
+
+    // Insertion sort comparando a partir do caractere d: os anteriores já são iguais na partição
+    private static void insertionSort(String[] arr, int low, int high, int d) {
+        for (int i = low + 1; i <= high; i++) {
+            String key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(byte[][] arr, int low, int high, int d) {
+        for (int i = low + 1; i <= high; i++) {
+            byte[] key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static boolean less(String v, String w, int d) {
+        int n = Math.min(v.length(), w.length());
+        for (int i = d; i < n; i++) {
+            char a = v.charAt(i);
+            char b = w.charAt(i);
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return v.length() < w.length();
+    }
+
+    private static boolean less(byte[] v, byte[] w, int d) {
+        int n = Math.min(v.length, w.length);
+        for (int i = d; i < n; i++) {
+            int a = v[i] & 0xFF;
+            int b = w[i] & 0xFF;
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return v.length < w.length;
+    }
+
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,190 @@
+package br.edu.ufabc.energy.algorithms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Perfil de ajuste da máquina: cutoff do insertion sort, limiar de paralelismo
+ * e algoritmo escolhido por faixa de tamanho.
+ *
+ * O perfil é gerado pelo {@code AutoTuner} e gravado como arquivo de propriedades.
+ * Ele só afeta o {@code SortingAlgorithms.autoSort}; quickSort, mergeSort e javaSort
+ * sem parâmetros usam sempre os padrões, e as versões com parâmetros os valores dados.
+ */
+public final class TuningProfile {
+
+    private static final Logger logger = Logger.getLogger(TuningProfile.class.getName());
+
+    /** Propriedade de sistema com o caminho do perfil */
+    public static final String PROFILE_PROPERTY = "sorting.profile";
+
+    /** Arquivo usado quando a propriedade não é definida */
+    public static final String DEFAULT_PROFILE_FILE = "sorting-profile.properties";
+
+    /** 0 desativa o cutoff: quickSort e mergeSort recursam até subarrays de 1 elemento */
+    public static final int DEFAULT_INSERTION_SORT_CUTOFF = 0;
+
+    /** Integer.MAX_VALUE desativa o Arrays.parallelSort no javaSort */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = Integer.MAX_VALUE;
+
+    public static final String DEFAULT_ALGORITHM = "javaSort";
+
+    /** Nomes de algoritmo aceitos no perfil (os casos do SortingAlgorithms.autoSort) */
+    public static final Set<String> ALGORITHMS = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(
+        "insertionSort", "quickSort", "mergeSort", "heapSort", "javaSort")));
+
+    static final String KEY_INSERTION_SORT_CUTOFF = "insertionSort.cutoff";
+    static final String KEY_PARALLEL_THRESHOLD = "parallel.threshold";
+    static final String KEY_ALGORITHM_PREFIX = "algorithm.maxSize.";
+
+    private final int insertionSortCutoff;
+    private final int parallelThreshold;
+    // Limite superior (inclusivo) de tamanho -> nome do algoritmo
+    private final TreeMap<Integer, String> algorithmBySize;
+
+    public TuningProfile(int insertionSortCutoff, int parallelThreshold, Map<Integer, String> algorithmBySize) {
+        if (insertionSortCutoff < 0) {
+            throw new IllegalArgumentException("insertionSortCutoff must be >= 0: " + insertionSortCutoff);
+        }
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be >= 1: " + parallelThreshold);
+        }
+        for (Map.Entry<Integer, String> entry : algorithmBySize.entrySet()) {
+            if (!ALGORITHMS.contains(entry.getValue())) {
+                throw new IllegalArgumentException("Unknown algorithm '" + entry.getValue() + "' for size "
+                    + entry.getKey() + ", expected one of " + ALGORITHMS);
+            }
+        }
+        this.insertionSortCutoff = insertionSortCutoff;
+        this.parallelThreshold = parallelThreshold;
+        this.algorithmBySize = new TreeMap<>(algorithmBySize);
+    }
+
+    /**
+     * Perfil padrão, usado quando nenhum arquivo de perfil existe
+     */
+    public static TuningProfile defaults() {
+        return new TuningProfile(DEFAULT_INSERTION_SORT_CUTOFF, DEFAULT_PARALLEL_THRESHOLD,
+            Collections.<Integer, String>emptyMap());
+    }
+
+    /**
+     * Carrega o perfil indicado por -Dsorting.profile (ou sorting-profile.properties).
+     * Retorna os padrões se o arquivo não existir ou não puder ser lido.
+     */
+    public static TuningProfile loadDefault() {
+        Path path = Paths.get(System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE_FILE));
+        if (!Files.isRegularFile(path)) {
+            return defaults();
+        }
+        try {
+            TuningProfile profile = load(path);
+            logger.info("Sorting profile loaded from " + path.toAbsolutePath());
+            return profile;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Failed to load sorting profile " + path + ", using defaults", e);
+            return defaults();
+        }
+    }
+
+    /**
+     * Lê um perfil de um arquivo de propriedades
+     */
+    public static TuningProfile load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            props.load(in);
+        }
+
+        int cutoff = Integer.parseInt(props.getProperty(KEY_INSERTION_SORT_CUTOFF,
+            String.valueOf(DEFAULT_INSERTION_SORT_CUTOFF)).trim());
+        int threshold = Integer.parseInt(props.getProperty(KEY_PARALLEL_THRESHOLD,
+            String.valueOf(DEFAULT_PARALLEL_THRESHOLD)).trim());
+
+        Map<Integer, String> algorithms = new TreeMap<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(KEY_ALGORITHM_PREFIX)) {
+                int maxSize = Integer.parseInt(key.substring(KEY_ALGORITHM_PREFIX.length()).trim());
+                algorithms.put(maxSize, props.getProperty(key).trim());
+            }
+        }
+        return new TuningProfile(cutoff, threshold, algorithms);
+    }
+
+    /**
+     * Grava o perfil como arquivo de propriedades
+     */
+    public void store(Path path, String comments) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(KEY_INSERTION_SORT_CUTOFF, String.valueOf(insertionSortCutoff));
+        props.setProperty(KEY_PARALLEL_THRESHOLD, String.valueOf(parallelThreshold));
+        for (Map.Entry<Integer, String> entry : algorithmBySize.entrySet()) {
+            props.setProperty(KEY_ALGORITHM_PREFIX + entry.getKey(), entry.getValue());
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            props.store(out, comments);
+        }
+    }
+
+    public int getInsertionSortCutoff() {
+        return insertionSortCutoff;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public Map<Integer, String> getAlgorithmBySize() {
+        return Collections.unmodifiableMap(algorithmBySize);
+    }
+
+    /**
+     * Algoritmo recomendado para um tamanho: a menor faixa cujo limite cobre o tamanho.
+     * Acima da maior faixa (ou sem faixas) retorna {@link #DEFAULT_ALGORITHM}.
+     */
+    public String algorithmFor(int size) {
+        Map.Entry<Integer, String> entry = algorithmBySize.ceilingEntry(size);
+        return entry != null ? entry.getValue() : DEFAULT_ALGORITHM;
+    }
+
+    /**
+     * Indica se algum tamanho cai no javaSort com array de pelo menos parallelThreshold
+     * elementos, ou seja, se o autoSort chega a usar Arrays.parallelSort
+     */
+    public boolean usesParallelSort() {
+        if (parallelThreshold == DEFAULT_PARALLEL_THRESHOLD) {
+            return false;
+        }
+        for (Map.Entry<Integer, String> entry : algorithmBySize.entrySet()) {
+            if (entry.getValue().equals("javaSort") && entry.getKey() >= parallelThreshold) {
+                return true;
+            }
+        }
+        // Acima da maior faixa vale o DEFAULT_ALGORITHM, que é o javaSort
+        return algorithmBySize.isEmpty() || algorithmBySize.lastKey() < Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return "TuningProfile{insertionSortCutoff=" + insertionSortCutoff
+            + ", parallelThreshold=" + parallelThreshold
+            + ", algorithmBySize=" + algorithmBySize + "}";
+    }
+}
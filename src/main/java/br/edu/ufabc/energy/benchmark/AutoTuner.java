@@ -0,0 +1,276 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.algorithms.TuningProfile;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Calibração automática do perfil de ordenação da máquina.
+ *
+ * Varre o cutoff do insertion sort, o limiar do Arrays.parallelSort e o algoritmo
+ * por faixa de tamanho com execuções curtas, medidas com System.nanoTime e
+ * EnergyMonitor em todos os DataGenerator.DataType. Escolhe o candidato de menor
+ * custo no objetivo pedido (desempate pela outra medida) e grava o resultado como
+ * TuningProfile. A fronteira de Pareto (tempo x energia) é só informativa: aparece
+ * na saída para mostrar as alternativas não dominadas.
+ *
+ * Uso: AutoTuner [time|energy] [arquivo-de-perfil]
+ */
+public class AutoTuner {
+
+    private static final int[] CUTOFF_CANDIDATES = {0, 4, 8, 12, 16, 24, 32, 48, 64};
+    private static final int CUTOFF_CALIBRATION_SIZE = 5000;
+
+    private static final int[] PARALLEL_CANDIDATES = {
+        1 << 12, 1 << 13, 1 << 14, 1 << 15, 1 << 16, 1 << 17, 1 << 18, 1 << 19, 1 << 20
+    };
+
+    private static final int[] SIZE_BUCKETS = {16, 64, 256, 1024, 4096, 16384, 65536, 262144, 1048576};
+    // Limites acima dos quais candidatos quadráticos no pior caso não são considerados
+    // (insertion sort, e o quickSort com pivô no último elemento em SORTED/REVERSE_SORTED)
+    private static final int INSERTION_SORT_MAX_SIZE = 4096;
+    private static final int QUICK_SORT_MAX_SIZE = 16384;
+
+    // Cada amostra repete a ordenação até cobrir ao menos esta janela,
+    // para que a resolução do contador RAPL não domine a medida
+    private static final long TARGET_WINDOW_NANOS = 20_000_000L;
+    private static final int WARMUP_SAMPLES = 2;
+    private static final int SAMPLES = 5;
+
+    public enum Objective {
+        TIME,
+        ENERGY
+    }
+
+    public static void main(String[] args) throws IOException {
+        Objective objective = args.length > 0
+            ? Objective.valueOf(args[0].toUpperCase())
+            : Objective.ENERGY;
+        Path output = Paths.get(args.length > 1
+            ? args[1]
+            : System.getProperty(TuningProfile.PROFILE_PROPERTY, TuningProfile.DEFAULT_PROFILE_FILE));
+
+        EnergyMonitor.initialize();
+        System.out.println("=== Sorting Auto-Tuner ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Objective: " + objective);
+        if (objective == Objective.ENERGY && EnergyMonitor.isEstimated()) {
+            System.out.println("WARNING: energia estimada pelo modelo de software, não medida");
+        } else if (objective == Objective.ENERGY && !EnergyMonitor.isAvailable()) {
+            System.out.println("WARNING: energia indisponível, a escolha será feita pelo tempo");
+        }
+        System.out.println();
+
+        int cutoff = calibrateCutoff(objective);
+        int parallelThreshold = calibrateParallelThreshold(objective);
+        Map<Integer, String> algorithms = calibrateAlgorithms(objective, cutoff, parallelThreshold);
+
+        TuningProfile profile = new TuningProfile(cutoff, parallelThreshold, algorithms);
+        String comments = String.format("Generated by AutoTuner at %s (objective=%s, os.arch=%s, cpus=%d, java=%s)",
+            Instant.now(), objective, System.getProperty("os.arch"),
+            Runtime.getRuntime().availableProcessors(), System.getProperty("java.version"));
+        profile.store(output, comments);
+
+        System.out.println();
+        System.out.println("Profile: " + profile);
+        System.out.println("Saved to: " + output.toAbsolutePath());
+    }
+
+    private static int calibrateCutoff(Objective objective) {
+        System.out.println("--- insertionSort.cutoff (size " + CUTOFF_CALIBRATION_SIZE + ") ---");
+        List<Candidate<Integer>> candidates = new ArrayList<>();
+        for (int cutoff : CUTOFF_CANDIDATES) {
+            final int c = cutoff;
+            Cost cost = measureOverDataTypes(CUTOFF_CALIBRATION_SIZE, arr -> SortingAlgorithms.quickSort(arr, c))
+                .plus(measureOverDataTypes(CUTOFF_CALIBRATION_SIZE, arr -> SortingAlgorithms.mergeSort(arr, c)));
+            candidates.add(new Candidate<>(cutoff, cost));
+        }
+        return choose(candidates, objective).value;
+    }
+
+    private static int calibrateParallelThreshold(Objective objective) {
+        System.out.println("--- parallel.threshold ---");
+        // O limiar é o menor tamanho a partir do qual parallelSort vence em todos os maiores
+        int threshold = TuningProfile.DEFAULT_PARALLEL_THRESHOLD;
+        for (int i = PARALLEL_CANDIDATES.length - 1; i >= 0; i--) {
+            int size = PARALLEL_CANDIDATES[i];
+            List<Candidate<Integer>> candidates = new ArrayList<>();
+            candidates.add(new Candidate<>(TuningProfile.DEFAULT_PARALLEL_THRESHOLD,
+                measureOverDataTypes(size, Arrays::sort)));
+            candidates.add(new Candidate<>(size, measureOverDataTypes(size, Arrays::parallelSort)));
+            System.out.println("size " + size + ":");
+            int winner = choose(candidates, objective).value;
+            if (winner != size) {
+                break;
+            }
+            threshold = size;
+        }
+        return threshold;
+    }
+
+    private static Map<Integer, String> calibrateAlgorithms(Objective objective, int cutoff, int parallelThreshold) {
+        Map<String, Consumer<int[]>> algorithms = new LinkedHashMap<>();
+        algorithms.put("insertionSort", SortingAlgorithms::insertionSort);
+        algorithms.put("quickSort", arr -> SortingAlgorithms.quickSort(arr, cutoff));
+        algorithms.put("mergeSort", arr -> SortingAlgorithms.mergeSort(arr, cutoff));
+        algorithms.put("heapSort", SortingAlgorithms::heapSort);
+        algorithms.put("javaSort", arr -> SortingAlgorithms.javaSort(arr, parallelThreshold));
+
+        Map<Integer, String> choice = new LinkedHashMap<>();
+        for (int size : SIZE_BUCKETS) {
+            System.out.println("--- algorithm.maxSize." + size + " ---");
+            List<Candidate<String>> candidates = new ArrayList<>();
+            for (Map.Entry<String, Consumer<int[]>> entry : algorithms.entrySet()) {
+                if (entry.getKey().equals("insertionSort") && size > INSERTION_SORT_MAX_SIZE) {
+                    continue;
+                }
+                if (entry.getKey().equals("quickSort") && size > QUICK_SORT_MAX_SIZE) {
+                    continue;
+                }
+                candidates.add(new Candidate<>(entry.getKey(), measureOverDataTypes(size, entry.getValue())));
+            }
+            choice.put(size, choose(candidates, objective).value);
+        }
+        return choice;
+    }
+
+    /**
+     * Soma o custo por ordenação em todos os tipos de dados
+     */
+    private static Cost measureOverDataTypes(int size, Consumer<int[]> sorter) {
+        Cost total = new Cost(0.0, 0.0);
+        for (DataGenerator.DataType dataType : DataGenerator.DataType.values()) {
+            total = total.plus(measure(DataGenerator.generateArray(size, dataType), sorter));
+        }
+        return total;
+    }
+
+    /**
+     * Mede o custo mediano por ordenação (ns e J) de um algoritmo sobre uma entrada
+     */
+    private static Cost measure(int[] baseData, Consumer<int[]> sorter) {
+        int[] work = new int[baseData.length];
+
+        // Estima quantas repetições cabem na janela alvo
+        long probeStart = System.nanoTime();
+        System.arraycopy(baseData, 0, work, 0, baseData.length);
+        try {
+            sorter.accept(work);
+        } catch (StackOverflowError e) {
+            // Recursão degenerada: candidato inviável nesta entrada
+            return new Cost(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        long probeNanos = Math.max(1L, System.nanoTime() - probeStart);
+        int repetitions = (int) Math.max(1L, Math.min(1_000_000L, TARGET_WINDOW_NANOS / probeNanos));
+
+        double[] nanos = new double[SAMPLES];
+        double[] joules = new double[SAMPLES];
+        for (int sample = -WARMUP_SAMPLES; sample < SAMPLES; sample++) {
+            long start = System.nanoTime();
+            EnergyMonitor.startMeasurement();
+            for (int r = 0; r < repetitions; r++) {
+                System.arraycopy(baseData, 0, work, 0, baseData.length);
+                sorter.accept(work);
+            }
+            double energy = EnergyMonitor.stopMeasurement();
+            long elapsed = System.nanoTime() - start;
+            if (sample >= 0) {
+                nanos[sample] = elapsed / (double) repetitions;
+                joules[sample] = energy / repetitions;
+            }
+        }
+        return new Cost(median(nanos), median(joules));
+    }
+
+    /**
+     * Escolhe o candidato de menor custo no objetivo e imprime todos, marcando os
+     * que estão na fronteira de Pareto
+     */
+    private static <T> Candidate<T> choose(List<Candidate<T>> candidates, Objective objective) {
+        Candidate<T> best = candidates.get(0);
+        for (Candidate<T> candidate : candidates) {
+            if (candidate.cost.compareFor(objective, best.cost) < 0) {
+                best = candidate;
+            }
+        }
+
+        List<Candidate<T>> front = new ArrayList<>();
+        for (Candidate<T> candidate : candidates) {
+            boolean dominated = false;
+            for (Candidate<T> other : candidates) {
+                if (other != candidate && other.cost.dominates(candidate.cost)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                front.add(candidate);
+            }
+        }
+
+        for (Candidate<T> candidate : candidates) {
+            System.out.printf("  %-12s %14.1f ns %12.6f J%s%s%n", candidate.value,
+                candidate.cost.nanos, candidate.cost.joules,
+                front.contains(candidate) ? "  [pareto]" : "",
+                candidate == best ? "  <== selected" : "");
+        }
+        return best;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    private static final class Cost {
+        final double nanos;
+        final double joules;
+
+        Cost(double nanos, double joules) {
+            this.nanos = nanos;
+            this.joules = joules;
+        }
+
+        Cost plus(Cost other) {
+            return new Cost(nanos + other.nanos, joules + other.joules);
+        }
+
+        boolean dominates(Cost other) {
+            return nanos <= other.nanos && joules <= other.joules
+                && (nanos < other.nanos || joules < other.joules);
+        }
+
+        int compareFor(Objective objective, Cost other) {
+            if (objective == Objective.ENERGY) {
+                int byEnergy = Double.compare(joules, other.joules);
+                return byEnergy != 0 ? byEnergy : Double.compare(nanos, other.nanos);
+            }
+            int byTime = Double.compare(nanos, other.nanos);
+            return byTime != 0 ? byTime : Double.compare(joules, other.joules);
+        }
+    }
+
+    private static final class Candidate<T> {
+        final T value;
+        final Cost cost;
+
+        Candidate(T value, Cost cost) {
+            this.value = value;
+            this.cost = cost;
+        }
+    }
+}
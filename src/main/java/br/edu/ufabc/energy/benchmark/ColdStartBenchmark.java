@@ -0,0 +1,336 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de partida a frio: cada amostra lança um JVM novo (ColdStartProbe) e mede
+ * tempo e energia do início do processo até o fim da primeira ordenação, separados nas
+ * fases de inicialização do JVM, carga de classes/dados e ordenação.
+ *
+ * Compara variantes voltadas a processos curtos: o classpath completo, C1 apenas
+ * (-XX:TieredStopAtLevel=1), um jar enxuto só com as classes do projeto e o jRAPL,
+ * e um arquivo AppCDS das classes do benchmark.
+ *
+ * Propriedades: -Dcold.samples (10), -Dcold.algorithm (JAVA_SORT),
+ * -Dcold.dataType (RANDOM), -Dcold.size (10000), -Dcold.workDir (target/cold-start).
+ */
+public class ColdStartBenchmark {
+
+    private static final long PROCESS_TIMEOUT_SECONDS = 120;
+    private static final String SHADED_JAR = "target/benchmarks.jar";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int samples = Integer.getInteger("cold.samples", 10);
+        List<String> probeArgs = Arrays.asList(
+            System.getProperty("cold.algorithm", "JAVA_SORT"),
+            System.getProperty("cold.dataType", "RANDOM"),
+            System.getProperty("cold.size", "10000"));
+        Path workDir = Paths.get(System.getProperty("cold.workDir", "target/cold-start"));
+        Files.createDirectories(workDir);
+
+        EnergyMonitor.initialize();
+        System.out.println("=== Cold Start Benchmark ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Workload: " + String.join(" ", probeArgs) + ", samples: " + samples);
+
+        String fullClasspath = Files.isRegularFile(Paths.get(SHADED_JAR))
+            ? SHADED_JAR
+            : System.getProperty("java.class.path");
+        Path slimJar = buildSlimJar(workDir.resolve("slim.jar"));
+        String slimClasspath = slimJar.toString();
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", jvmArgs(fullClasspath));
+        variants.put("c1", jvmArgs(fullClasspath, "-XX:TieredStopAtLevel=1"));
+        variants.put("slim-classpath", jvmArgs(slimClasspath));
+
+        Path archive = buildAppCdsArchive(workDir, slimClasspath, probeArgs);
+        if (archive != null) {
+            variants.put("appcds", jvmArgs(slimClasspath, "-XX:SharedArchiveFile=" + archive));
+            variants.put("appcds-c1", jvmArgs(slimClasspath, "-XX:SharedArchiveFile=" + archive,
+                "-XX:TieredStopAtLevel=1"));
+        }
+        System.out.println("Full classpath: " + fullClasspath);
+        System.out.println("Slim classpath: " + slimClasspath + " (" + Files.size(slimJar) / 1024 + " KB)");
+        System.out.println();
+
+        System.out.println("Variant,Samples,Total(ms),Startup(ms),ClassLoad(ms),Sort(ms),"
+            + "TotalEnergy,StartupEnergy,ClassLoadEnergy,SortEnergy,Unit");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            // Uma execução descartada para aquecer o cache de disco do SO
+            runSample(variant.getValue(), probeArgs);
+
+            List<Sample> results = new ArrayList<>();
+            for (int i = 0; i < samples; i++) {
+                Sample sample = runSample(variant.getValue(), probeArgs);
+                if (sample != null) {
+                    results.add(sample);
+                }
+            }
+            printSummary(variant.getKey(), results);
+        }
+    }
+
+    private static List<String> jvmArgs(String classpath, String... flags) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(flags));
+        command.add("-cp");
+        command.add(classpath);
+        return command;
+    }
+
+    /**
+     * Lança um JVM com o ColdStartProbe e combina as leituras do launcher
+     * (antes do fork) com as reportadas pelo processo filho
+     */
+    private static Sample runSample(List<String> jvmCommand, List<String> probeArgs)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(jvmCommand);
+        command.add(ColdStartProbe.class.getName());
+        command.addAll(probeArgs);
+
+        double startEnergy = EnergyMonitor.readEnergyCounter();
+        long startEpochNanos = ColdStartProbe.epochNanos();
+        List<String> output = new ArrayList<>();
+        boolean ok = runProcess(command, output);
+
+        String resultLine = null;
+        for (String line : output) {
+            if (line.startsWith(ColdStartProbe.RESULT_PREFIX)) {
+                resultLine = line.substring(ColdStartProbe.RESULT_PREFIX.length());
+            }
+        }
+        if (!ok || resultLine == null) {
+            System.err.println("Cold start sample failed: " + String.join(" ", command));
+            output.forEach(System.err::println);
+            return null;
+        }
+
+        String[] fields = resultLine.trim().split(" ");
+        long mainEpochNanos = Long.parseLong(fields[0]);
+        long loadedEpochNanos = Long.parseLong(fields[1]);
+        long sortedEpochNanos = Long.parseLong(fields[2]);
+        double mainEnergy = Double.parseDouble(fields[3]);
+        double loadedEnergy = Double.parseDouble(fields[4]);
+        double sortedEnergy = Double.parseDouble(fields[5]);
+
+        return new Sample(
+            mainEpochNanos - startEpochNanos,
+            loadedEpochNanos - mainEpochNanos,
+            sortedEpochNanos - loadedEpochNanos,
+            EnergyMonitor.energyBetween(startEnergy, mainEnergy),
+            EnergyMonitor.energyBetween(mainEnergy, loadedEnergy),
+            EnergyMonitor.energyBetween(loadedEnergy, sortedEnergy));
+    }
+
+    /**
+     * Monta um jar só com as classes do projeto (sem o código gerado pelo JMH) e o jRAPL,
+     * muito menor que o benchmarks.jar sombreado
+     */
+    private static Path buildSlimJar(Path target) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        sources.add(codeSourceOf(ColdStartProbe.class.getProtectionDomain().getCodeSource()));
+        try {
+            Class<?> jrapl = Class.forName("jRAPL.EnergyCheckUtils", false, ColdStartBenchmark.class.getClassLoader());
+            Path jraplSource = codeSourceOf(jrapl.getProtectionDomain().getCodeSource());
+            if (!sources.contains(jraplSource)) {
+                sources.add(jraplSource);
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Sem jRAPL no classpath: o probe roda sem medir energia
+        }
+
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(target))) {
+            for (Path source : sources) {
+                if (Files.isDirectory(source)) {
+                    try (Stream<Path> files = Files.walk(source)) {
+                        for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                            String name = source.relativize(file).toString().replace(File.separatorChar, '/');
+                            if (isSlimEntry(name)) {
+                                jar.putNextEntry(new JarEntry(name));
+                                Files.copy(file, jar);
+                                jar.closeEntry();
+                            }
+                        }
+                    }
+                } else {
+                    try (JarFile in = new JarFile(source.toFile())) {
+                        for (JarEntry entry : Collections.list(in.entries())) {
+                            if (!entry.isDirectory() && isSlimEntry(entry.getName())) {
+                                jar.putNextEntry(new JarEntry(entry.getName()));
+                                try (InputStream data = in.getInputStream(entry)) {
+                                    copy(data, jar);
+                                }
+                                jar.closeEntry();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return target;
+    }
+
+    private static boolean isSlimEntry(String name) {
+        return (name.startsWith("br/edu/ufabc/energy/") && !name.contains("/jmh_generated/"))
+            || name.startsWith("jRAPL/");
+    }
+
+    private static Path codeSourceOf(CodeSource codeSource) {
+        try {
+            return Paths.get(codeSource.getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid code source " + codeSource.getLocation(), e);
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Cria o arquivo AppCDS em dois passos compatíveis com o Java 11:
+     * lista das classes carregadas por uma execução de treino e -Xshare:dump.
+     * Retorna null se o JVM não suportar.
+     */
+    private static Path buildAppCdsArchive(Path workDir, String classpath, List<String> probeArgs)
+            throws IOException, InterruptedException {
+        Path classList = workDir.resolve("classes.lst").toAbsolutePath();
+        Path archive = workDir.resolve("app.jsa").toAbsolutePath();
+
+        List<String> training = jvmArgs(classpath, "-Xshare:off", "-XX:DumpLoadedClassList=" + classList);
+        training.add(ColdStartProbe.class.getName());
+        training.addAll(probeArgs);
+
+        List<String> dump = jvmArgs(classpath, "-Xshare:dump",
+            "-XX:SharedClassListFile=" + classList, "-XX:SharedArchiveFile=" + archive);
+
+        if (runQuietly(training) && runQuietly(dump) && Files.isRegularFile(archive)) {
+            return archive;
+        }
+        System.err.println("AppCDS archive could not be created; skipping appcds variants");
+        return null;
+    }
+
+    private static boolean runQuietly(List<String> command) throws IOException, InterruptedException {
+        List<String> output = new ArrayList<>();
+        boolean ok = runProcess(command, output);
+        if (!ok) {
+            output.forEach(System.err::println);
+        }
+        return ok;
+    }
+
+    /**
+     * Executa um processo com tempo limite, juntando stdout e stderr em output.
+     * A saída é drenada numa thread separada: readLine() só retorna null quando o
+     * filho fecha a saída, então um filho travado bloquearia a leitura antes do
+     * waitFor com timeout.
+     *
+     * @return true se o processo terminou dentro do tempo com código 0
+     */
+    private static boolean runProcess(List<String> command, List<String> output)
+            throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        Thread drainer = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+                // Stream fechado pelo destroyForcibly: o que já foi lido é mantido
+            }
+        }, "cold-start-output");
+        drainer.setDaemon(true);
+        drainer.start();
+
+        boolean finished = process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (!finished) {
+            process.destroyForcibly();
+            lines.add("Timed out after " + PROCESS_TIMEOUT_SECONDS + " s");
+        }
+        // Com o processo encerrado a saída fecha e a thread termina
+        drainer.join(TimeUnit.SECONDS.toMillis(5));
+        synchronized (lines) {
+            output.addAll(lines);
+        }
+        return finished && process.exitValue() == 0;
+    }
+
+    private static void printSummary(String variant, List<Sample> samples) {
+        if (samples.isEmpty()) {
+            System.out.printf("%s,0,,,,,,,,,%n", variant);
+            return;
+        }
+        double startup = median(samples, s -> s.startupNanos) / 1e6;
+        double classLoad = median(samples, s -> s.classLoadNanos) / 1e6;
+        double sort = median(samples, s -> s.sortNanos) / 1e6;
+        double total = median(samples, s -> s.startupNanos + s.classLoadNanos + s.sortNanos) / 1e6;
+        double startupEnergy = median(samples, s -> s.startupEnergy);
+        double classLoadEnergy = median(samples, s -> s.classLoadEnergy);
+        double sortEnergy = median(samples, s -> s.sortEnergy);
+        double totalEnergy = median(samples, s -> s.startupEnergy + s.classLoadEnergy + s.sortEnergy);
+
+        System.out.printf("%s,%d,%.2f,%.2f,%.2f,%.2f,%.6f,%.6f,%.6f,%.6f,%s%n",
+            variant, samples.size(), total, startup, classLoad, sort,
+            totalEnergy, startupEnergy, classLoadEnergy, sortEnergy, EnergyMonitor.getMeasurementUnit());
+    }
+
+    private static double median(List<Sample> samples, ToDoubleFunction<Sample> metric) {
+        double[] values = samples.stream().mapToDouble(metric).sorted().toArray();
+        int mid = values.length / 2;
+        return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2.0;
+    }
+
+    private static final class Sample {
+        final long startupNanos;
+        final long classLoadNanos;
+        final long sortNanos;
+        final double startupEnergy;
+        final double classLoadEnergy;
+        final double sortEnergy;
+
+        Sample(long startupNanos, long classLoadNanos, long sortNanos,
+               double startupEnergy, double classLoadEnergy, double sortEnergy) {
+            this.startupNanos = startupNanos;
+            this.classLoadNanos = classLoadNanos;
+            this.sortNanos = sortNanos;
+            this.startupEnergy = startupEnergy;
+            this.classLoadEnergy = classLoadEnergy;
+            this.sortEnergy = sortEnergy;
+        }
+    }
+}
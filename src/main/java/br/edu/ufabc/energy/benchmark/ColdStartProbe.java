@@ -0,0 +1,57 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
+import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import java.time.Instant;
+
+/**
+ * Processo medido pelo ColdStartBenchmark: um JVM novo que carrega as classes,
+ * gera os dados e faz uma única ordenação, imprimindo os instantes e as leituras
+ * do contador de energia de cada fase.
+ *
+ * Em cada fronteira a energia e o instante são lidos em sequência, sem trabalho
+ * entre eles, na mesma ordem do launcher, para que as fases de tempo e de energia
+ * coincidam.
+ *
+ * Uso: ColdStartProbe ALGORITHM DATA_TYPE SIZE
+ */
+public class ColdStartProbe {
+
+    /** Prefixo da linha de resultado lida pelo launcher */
+    static final String RESULT_PREFIX = "COLDSTART ";
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        // A inicialização do monitor (reflexão do jRAPL, powercap, modelo) fica na fase
+        // de partida, em tempo e em energia: a primeira leitura vem depois dela
+        EnergyMonitor.initialize();
+        double mainEnergy = EnergyMonitor.readEnergyCounter();
+        long mainEpochNanos = epochNanos();
+
+        // Carga de classes e preparação dos dados. fromName só resolve referências de
+        // método; o <clinit> do SortingAlgorithms (leitura do TuningProfile, tabelas de
+        // gaps) é forçado aqui para não cair na fase da primeira ordenação
+        AlgorithmRegistry algorithm = AlgorithmRegistry.fromName(args[0]);
+        Class.forName(SortingAlgorithms.class.getName(), true, ColdStartProbe.class.getClassLoader());
+        DataGenerator.DataType dataType = DataGenerator.DataType.valueOf(args[1]);
+        int[] data = DataGenerator.generateArray(Integer.parseInt(args[2]), dataType);
+        double loadedEnergy = EnergyMonitor.readEnergyCounter();
+        long loadedEpochNanos = epochNanos();
+
+        // Primeira chamada: interpretador e primeiras compilações do JIT
+        algorithm.sort(data);
+        double sortedEnergy = EnergyMonitor.readEnergyCounter();
+        long sortedEpochNanos = epochNanos();
+
+        System.out.println(RESULT_PREFIX + mainEpochNanos + " " + loadedEpochNanos + " " + sortedEpochNanos
+            + " " + mainEnergy + " " + loadedEnergy + " " + sortedEnergy);
+    }
+
+    // Relógio de parede em ns, comparável entre processos (nanoTime não é)
+    static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
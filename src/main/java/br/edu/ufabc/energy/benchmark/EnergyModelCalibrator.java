@@ -0,0 +1,177 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
+import br.edu.ufabc.energy.monitoring.AllocationMonitor;
+import br.edu.ufabc.energy.monitoring.EnergyModel;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calibra o modelo de energia por software numa máquina com RAPL (via jRAPL ou powercap).
+ *
+ * Mede janelas de ordenação (algoritmos que alocam pouco e muito, vários tamanhos),
+ * janelas ociosas e janelas mistas, registrando tempo de parede, tempo de CPU da
+ * thread, bytes alocados e a energia RAPL de cada uma. Ajusta os coeficientes do
+ * EnergyModel por mínimos quadrados não negativos e grava o arquivo, que depois é
+ * usado pelo EnergyMonitor nas máquinas sem RAPL.
+ *
+ * Uso: EnergyModelCalibrator [arquivo-do-modelo]
+ */
+public class EnergyModelCalibrator {
+
+    private static final AlgorithmRegistry[] ALGORITHMS = {
+        AlgorithmRegistry.INSERTION_SORT, AlgorithmRegistry.QUICK_SORT, AlgorithmRegistry.HEAP_SORT,
+        AlgorithmRegistry.MERGE_SORT, AlgorithmRegistry.MULTIWAY_MERGE_SORT, AlgorithmRegistry.JAVA_SORT
+    };
+    private static final int[] SIZES = {1000, 10000, 100000};
+    private static final DataGenerator.DataType[] DATA_TYPES = {
+        DataGenerator.DataType.RANDOM, DataGenerator.DataType.NEARLY_SORTED
+    };
+
+    // Janelas longas o bastante para que a resolução do contador RAPL não domine
+    private static final long TARGET_WINDOW_NANOS = 200_000_000L;
+    private static final int SAMPLES_PER_WORKLOAD = 3;
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0
+            ? args[0]
+            : System.getProperty(EnergyModel.MODEL_PROPERTY, EnergyModel.DEFAULT_MODEL_FILE));
+
+        EnergyMonitor.initialize();
+        AllocationMonitor.initialize();
+        System.out.println("=== Energy Model Calibration ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Energy Source: " + EnergyMonitor.getImplementationInfo());
+        // jRAPL ou powercap servem; o que não serve é calibrar o modelo com ele mesmo
+        if (!EnergyMonitor.isAvailable() || EnergyMonitor.isEstimated()) {
+            System.err.println("ERROR: a calibração precisa de medições RAPL reais (jRAPL e powercap indisponíveis)");
+            System.exit(1);
+        }
+        System.out.println();
+
+        List<EnergyModel.Sample> samples = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+
+        // Janelas ociosas e mistas separam a potência de base do custo de CPU
+        for (int i = 0; i < SAMPLES_PER_WORKLOAD; i++) {
+            samples.add(measureIdle(TARGET_WINDOW_NANOS / 1_000_000L));
+            labels.add("idle");
+        }
+        int[] mixedData = DataGenerator.generateArray(100000, DataGenerator.DataType.RANDOM);
+        for (int i = 0; i < SAMPLES_PER_WORKLOAD; i++) {
+            samples.add(measureMixed(mixedData));
+            labels.add("mixed");
+        }
+
+        for (AlgorithmRegistry algorithm : ALGORITHMS) {
+            for (int size : SIZES) {
+                if (!algorithm.isRecommendedFor(size)) {
+                    continue;
+                }
+                for (DataGenerator.DataType dataType : DATA_TYPES) {
+                    int[] baseData = DataGenerator.generateArray(size, dataType);
+                    measure(baseData, algorithm); // aquecimento do JIT
+                    for (int i = 0; i < SAMPLES_PER_WORKLOAD; i++) {
+                        samples.add(measure(baseData, algorithm));
+                        labels.add(algorithm.getDisplayName() + "," + dataType + "," + size);
+                    }
+                }
+            }
+        }
+
+        EnergyModel model = EnergyModel.fit(samples);
+        printFit(model, samples, labels);
+
+        String comments = String.format("Generated by EnergyModelCalibrator at %s (os.arch=%s, cpus=%d, java=%s)",
+            Instant.now(), System.getProperty("os.arch"),
+            Runtime.getRuntime().availableProcessors(), System.getProperty("java.version"));
+        model.store(output, comments);
+        System.out.println();
+        System.out.println("Model: " + model);
+        System.out.println("Saved to: " + output.toAbsolutePath());
+    }
+
+    /**
+     * Repete a ordenação até cobrir a janela alvo
+     */
+    private static EnergyModel.Sample measure(int[] baseData, AlgorithmRegistry algorithm) {
+        int[] work = new int[baseData.length];
+        long deadline = System.nanoTime() + TARGET_WINDOW_NANOS;
+        return sample(() -> {
+            do {
+                System.arraycopy(baseData, 0, work, 0, baseData.length);
+                algorithm.sort(work);
+            } while (System.nanoTime() < deadline);
+        });
+    }
+
+    private static EnergyModel.Sample measureIdle(long millis) {
+        return sample(() -> sleep(millis));
+    }
+
+    // Metade da janela ordenando, metade dormindo
+    private static EnergyModel.Sample measureMixed(int[] baseData) {
+        int[] work = new int[baseData.length];
+        return sample(() -> {
+            long deadline = System.nanoTime() + TARGET_WINDOW_NANOS / 2;
+            do {
+                System.arraycopy(baseData, 0, work, 0, baseData.length);
+                Arrays.sort(work);
+            } while (System.nanoTime() < deadline);
+            sleep(TARGET_WINDOW_NANOS / 2_000_000L);
+        });
+    }
+
+    private static EnergyModel.Sample sample(Runnable workload) {
+        long startCpu = THREAD_BEAN.getCurrentThreadCpuTime();
+        AllocationMonitor.startMeasurement();
+        EnergyMonitor.startMeasurement();
+        workload.run();
+        double joules = EnergyMonitor.stopMeasurement();
+        AllocationMonitor.Measurement allocation = AllocationMonitor.stopMeasurement();
+        long cpuNanos = THREAD_BEAN.getCurrentThreadCpuTime() - startCpu;
+        return new EnergyModel.Sample(allocation.getElapsedNanos(), cpuNanos, allocation.getAllocatedBytes(), joules);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compara energia medida e estimada por amostra e o erro percentual médio
+     */
+    private static void printFit(EnergyModel model, List<EnergyModel.Sample> samples, List<String> labels) {
+        System.out.printf("%-40s %10s %10s %14s %12s %12s%n",
+            "Workload", "Wall(ms)", "CPU(ms)", "Alloc(bytes)", "RAPL(J)", "Model(J)");
+        double totalError = 0.0;
+        int counted = 0;
+        for (int i = 0; i < samples.size(); i++) {
+            EnergyModel.Sample sample = samples.get(i);
+            double estimate = model.estimate(sample.getWallNanos(), sample.getCpuNanos(), sample.getAllocatedBytes());
+            System.out.printf("%-40s %10.1f %10.1f %14d %12.4f %12.4f%n", labels.get(i),
+                sample.getWallNanos() / 1e6, sample.getCpuNanos() / 1e6, sample.getAllocatedBytes(),
+                sample.getJoules(), estimate);
+            if (sample.getJoules() > 0) {
+                totalError += Math.abs(estimate - sample.getJoules()) / sample.getJoules();
+                counted++;
+            }
+        }
+        System.out.printf("Mean absolute percentage error: %.1f%%%n", counted > 0 ? 100.0 * totalError / counted : 0.0);
+    }
+}
@@ -0,0 +1,65 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Profiler JMH que publica a energia medida pelos benchmarks como resultado secundário.
+ *
+ * Os benchmarks chamam {@link #record(double)} com a energia de cada invocação; ao fim de
+ * cada iteração o profiler publica a média em J/op. Como roda dentro do JVM forkado,
+ * a energia chega ao processo principal junto com o tempo, em RunResult.getSecondaryResults().
+ */
+public class EnergyProfiler implements InternalProfiler {
+
+    /** Rótulo do resultado secundário de energia */
+    public static final String ENERGY_LABEL = "energy";
+
+    private static double totalEnergy = 0.0;
+    private static long invocations = 0L;
+
+    /**
+     * Acumula a energia de uma invocação do benchmark
+     */
+    public static synchronized void record(double energy) {
+        totalEnergy += energy;
+        invocations++;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Energy per operation measured by EnergyMonitor";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        synchronized (EnergyProfiler.class) {
+            totalEnergy = 0.0;
+            invocations = 0L;
+        }
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        double energyPerOp;
+        synchronized (EnergyProfiler.class) {
+            energyPerOp = invocations > 0 ? totalEnergy / invocations : Double.NaN;
+        }
+        String unit = EnergyMonitor.isAvailable() ? "J/op"
+            : EnergyMonitor.isEstimated() ? "J/op (estimated)" : "N/A";
+        return Collections.singletonList(
+            new ScalarResult(ENERGY_LABEL, energyPerOp, unit, AggregationPolicy.AVG));
+    }
+}
@@ -0,0 +1,257 @@
+package br.edu.ufabc.energy.benchmark;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Executa o SortingBenchmark sob uma matriz de configurações de JVM
+ * (coletor de lixo, Epsilon como linha de base sem GC, níveis do JIT, heap,
+ * compressed oops) e monta uma tabela combinada de tempo e energia.
+ *
+ * Cada configuração roda em forks próprios do JMH com os flags anexados; a energia
+ * volta dos forks pelo EnergyProfiler. A matriz pode ser lida de um arquivo com
+ * -Djvm.matrix.file, uma configuração por linha no formato "nome: flags".
+ * Para reduzir a matriz: -Djvm.matrix.sizes, -Djvm.matrix.dataTypes e
+ * -Djvm.matrix.algorithms (listas separadas por vírgula).
+ *
+ * Um fork que morre (flag não suportado, Epsilon sem heap) não gera exceção no
+ * JMH, só deixa de produzir resultado: workloads que alguma configuração mediu e
+ * outra não são reportados como MISSING na saída e no CSV.
+ */
+public class JvmMatrixBenchmark {
+
+    private static final String MATRIX_FILE_PROPERTY = "jvm.matrix.file";
+    private static final String RESULT_FILE = "jvm_matrix_results.csv";
+
+    public static void main(String[] args) throws IOException {
+        Map<String, List<String>> configurations = loadConfigurations();
+
+        System.out.println("=== JVM Configuration Matrix ===");
+        for (Map.Entry<String, List<String>> entry : configurations.entrySet()) {
+            System.out.println(entry.getKey() + ": " + String.join(" ", entry.getValue()));
+        }
+        System.out.println();
+
+        // Resultados por configuração, na ordem da matriz
+        Map<String, List<RunResult>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : configurations.entrySet()) {
+            System.out.println("=== Configuration: " + entry.getKey() + " ===");
+            try {
+                results.put(entry.getKey(), SortingBenchmark.runRecommended(baseOptions(entry.getValue())));
+            } catch (RunnerException e) {
+                System.err.println("Configuration " + entry.getKey() + " failed: " + e.getMessage());
+                results.put(entry.getKey(), new ArrayList<>());
+            }
+        }
+
+        Map<String, Set<String>> missing = findMissing(results);
+        writeCsv(Paths.get(RESULT_FILE), configurations, results, missing);
+        printTable(results);
+        System.out.println();
+        System.out.println("Results saved to: " + Paths.get(RESULT_FILE).toAbsolutePath());
+    }
+
+    /**
+     * Matriz padrão; o Epsilon nunca coleta lixo, então workloads que alocam muito
+     * podem esgotar o heap e aparecem sem resultado. No JDK 9+ o G1 já é o coletor
+     * padrão, então não há uma configuração "default" separada
+     */
+    private static Map<String, List<String>> defaultConfigurations() {
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("g1", Arrays.asList("-XX:+UseG1GC"));
+        configurations.put("serial", Arrays.asList("-XX:+UseSerialGC"));
+        configurations.put("parallel", Arrays.asList("-XX:+UseParallelGC"));
+        configurations.put("zgc", Arrays.asList("-XX:+UnlockExperimentalVMOptions", "-XX:+UseZGC"));
+        configurations.put("epsilon", Arrays.asList("-XX:+UnlockExperimentalVMOptions", "-XX:+UseEpsilonGC",
+            "-Xms4g", "-Xmx4g"));
+        configurations.put("c1-only", Arrays.asList("-XX:TieredStopAtLevel=1"));
+        configurations.put("c2-only", Arrays.asList("-XX:-TieredCompilation"));
+        configurations.put("heap-256m", Arrays.asList("-Xms256m", "-Xmx256m"));
+        configurations.put("heap-2g", Arrays.asList("-Xms2g", "-Xmx2g"));
+        configurations.put("no-compressed-oops", Arrays.asList("-XX:-UseCompressedOops"));
+        return configurations;
+    }
+
+    private static Map<String, List<String>> loadConfigurations() throws IOException {
+        String file = System.getProperty(MATRIX_FILE_PROPERTY);
+        if (file == null) {
+            return defaultConfigurations();
+        }
+
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Invalid matrix line (expected 'name: flags'): " + line);
+            }
+            String flags = line.substring(colon + 1).trim();
+            configurations.put(line.substring(0, colon).trim(),
+                flags.isEmpty() ? new ArrayList<>() : Arrays.asList(flags.split("\\s+")));
+        }
+        return configurations;
+    }
+
+    private static Options baseOptions(List<String> jvmArgs) {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+                .addProfiler(EnergyProfiler.class)
+                .forks(1)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(1));
+
+        addParamFromProperty(builder, "arraySize", "jvm.matrix.sizes");
+        addParamFromProperty(builder, "dataType", "jvm.matrix.dataTypes");
+        addParamFromProperty(builder, "algorithm", "jvm.matrix.algorithms");
+        return builder.build();
+    }
+
+    private static void addParamFromProperty(ChainedOptionsBuilder builder, String param, String property) {
+        String value = System.getProperty(property);
+        if (value != null && !value.trim().isEmpty()) {
+            builder.param(param, value.trim().split("\\s*,\\s*"));
+        }
+    }
+
+    /**
+     * Identifica o workload de um resultado pelos parâmetros do benchmark
+     */
+    private static String workloadKey(RunResult result) {
+        return result.getParams().getParam("algorithm") + ","
+            + result.getParams().getParam("dataType") + ","
+            + result.getParams().getParam("arraySize");
+    }
+
+    /**
+     * Workloads que faltam em cada configuração, em relação à união de todas.
+     * Configurações sem nenhum resultado faltam em todos os workloads.
+     */
+    private static Map<String, Set<String>> findMissing(Map<String, List<RunResult>> results) {
+        Set<String> expected = new LinkedHashSet<>();
+        for (List<RunResult> runs : results.values()) {
+            for (RunResult result : runs) {
+                expected.add(workloadKey(result));
+            }
+        }
+
+        Map<String, Set<String>> missing = new LinkedHashMap<>();
+        for (Map.Entry<String, List<RunResult>> entry : results.entrySet()) {
+            Set<String> absent = new LinkedHashSet<>(expected);
+            for (RunResult result : entry.getValue()) {
+                absent.remove(workloadKey(result));
+            }
+            missing.put(entry.getKey(), absent);
+            if (entry.getValue().isEmpty()) {
+                System.err.println("Configuration " + entry.getKey() + " produced no results (forks failed?)");
+            } else if (!absent.isEmpty()) {
+                System.err.println("Configuration " + entry.getKey() + " is missing " + absent.size()
+                    + " of " + expected.size() + " results: " + absent);
+            }
+        }
+        return missing;
+    }
+
+    private static double energyOf(RunResult result) {
+        Result<?> energy = result.getSecondaryResults().get(EnergyProfiler.ENERGY_LABEL);
+        return energy != null ? energy.getScore() : Double.NaN;
+    }
+
+    private static void writeCsv(Path path, Map<String, List<String>> configurations,
+                                 Map<String, List<RunResult>> results,
+                                 Map<String, Set<String>> missing) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("Configuration,JvmArgs,Algorithm,DataType,Size,Score,ScoreError,Unit,Energy,EnergyUnit,Status");
+            for (Map.Entry<String, List<RunResult>> entry : results.entrySet()) {
+                String jvmArgs = String.join(" ", configurations.get(entry.getKey()));
+                for (RunResult result : entry.getValue()) {
+                    Result<?> primary = result.getPrimaryResult();
+                    Result<?> energy = result.getSecondaryResults().get(EnergyProfiler.ENERGY_LABEL);
+                    out.printf(Locale.ROOT, "%s,\"%s\",%s,%.3f,%.3f,%s,%.9f,%s,OK%n",
+                        entry.getKey(), jvmArgs, workloadKey(result),
+                        primary.getScore(), primary.getScoreError(), primary.getScoreUnit(),
+                        energyOf(result), energy != null ? energy.getScoreUnit() : "N/A");
+                }
+                for (String workload : missing.get(entry.getKey())) {
+                    out.printf(Locale.ROOT, "%s,\"%s\",%s,,,,,,MISSING%n", entry.getKey(), jvmArgs, workload);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tabela combinada: uma linha por workload, tempo e energia por configuração,
+     * e a configuração mais barata em tempo e em energia
+     */
+    private static void printTable(Map<String, List<RunResult>> results) {
+        Map<String, Map<String, RunResult>> byWorkload = new LinkedHashMap<>();
+        for (Map.Entry<String, List<RunResult>> entry : results.entrySet()) {
+            for (RunResult result : entry.getValue()) {
+                byWorkload.computeIfAbsent(workloadKey(result), k -> new LinkedHashMap<>())
+                    .put(entry.getKey(), result);
+            }
+        }
+
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "%-45s", "Algorithm,DataType,Size"));
+        for (String configuration : results.keySet()) {
+            header.append(String.format(Locale.ROOT, " | %-28s", configuration + " (ns/op, J/op)"));
+        }
+        header.append(" | Best(time) | Best(energy)");
+        System.out.println();
+        System.out.println(header);
+
+        for (Map.Entry<String, Map<String, RunResult>> row : byWorkload.entrySet()) {
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-45s", row.getKey()));
+            String bestTime = "-";
+            String bestEnergy = "-";
+            double minTime = Double.MAX_VALUE;
+            double minEnergy = Double.MAX_VALUE;
+
+            for (String configuration : results.keySet()) {
+                RunResult result = row.getValue().get(configuration);
+                if (result == null) {
+                    line.append(String.format(Locale.ROOT, " | %-28s", "MISSING"));
+                    continue;
+                }
+                double time = result.getPrimaryResult().getScore();
+                double energy = energyOf(result);
+                line.append(String.format(Locale.ROOT, " | %14.1f %13.6f", time, energy));
+
+                if (time < minTime) {
+                    minTime = time;
+                    bestTime = configuration;
+                }
+                if (!Double.isNaN(energy) && energy > 0 && energy < minEnergy) {
+                    minEnergy = energy;
+                    bestEnergy = configuration;
+                }
+            }
+            line.append(String.format(Locale.ROOT, " | %-10s | %s", bestTime, bestEnergy));
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.util.DataGenerator;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH para arrays muito maiores que a LLC (até 10^8 elementos).
+ * Compara o mergeSort binário, o multiwayMergeSort consciente de cache e o
+ * javaSort em tempo e na energia do domínio DRAM.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LargeArrayBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int arraySize;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    private DataGenerator.DataType dataType;
+
+    private int[] baseData;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        EnergyMonitor.initialize();
+        System.out.println("=== Energy Monitoring Setup ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.println("Array Size: " + arraySize);
+        System.out.println("Data Type: " + dataType);
+        System.out.println("==============================");
+        baseData = DataGenerator.generateArray(arraySize, dataType);
+        data = new int[arraySize];
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // A cópia de 10^8 ints custa centenas de ms; fica fora da medição
+        System.arraycopy(baseData, 0, data, 0, arraySize);
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.mergeSort(data);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("MergeSort", energy, EnergyMonitor.getLastDramEnergy());
+        return data;
+    }
+
+    @Benchmark
+    public int[] multiwayMergeSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.multiwayMergeSort(data);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("MultiwayMergeSort", energy, EnergyMonitor.getLastDramEnergy());
+        return data;
+    }
+
+    @Benchmark
+    public int[] javaSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.javaSort(data);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("JavaSort", energy, EnergyMonitor.getLastDramEnergy());
+        return data;
+    }
+
+    private void recordEnergyConsumption(String algorithm, double energy, double dramEnergy) {
+        EnergyProfiler.record(energy);
+        // Tag própria: as colunas diferem das linhas [ENERGY] do SortingBenchmark
+        // Colunas: Algorithm,DataType,Size,Energy,DRAMEnergy,Unit
+        if (Boolean.getBoolean("energy.logging.enabled")) {
+            System.out.printf("[LARGE_ENERGY] %s,%s,%d,%.6f,%.6f,%s%n",
+                algorithm, dataType, arraySize, energy, dramEnergy, EnergyMonitor.getMeasurementUnit());
+        }
+    }
+
+    /**
+     * Método principal para executar os benchmarks de arrays grandes
+     */
+    public static void main(String[] args) throws RunnerException {
+        // Habilita logging de energia
+        System.setProperty("energy.logging.enabled", "true");
+
+        Options opt = new OptionsBuilder()
+                .include(LargeArrayBenchmark.class.getSimpleName())
+                .jvmArgsPrepend("-Denergy.logging.enabled=true")
+                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.CSV)
+                .result("large_array_results.csv")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
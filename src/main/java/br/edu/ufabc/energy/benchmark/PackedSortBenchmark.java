@@ -0,0 +1,117 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+import br.edu.ufabc.energy.util.PackedIntArray;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de ordenação sobre arrays empacotados em bits contra os caminhos
+ * com int[]: radix sort no PackedIntArray, radix sort no int[] e javaSort, em
+ * memória ocupada, tempo e energia (total e do domínio DRAM).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PackedSortBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int arraySize;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    private DataGenerator.DataType dataType;
+
+    private int[] baseData;
+    private int[] data;
+    private PackedIntArray basePacked;
+    private PackedIntArray packed;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        EnergyMonitor.initialize();
+        baseData = DataGenerator.generateArray(arraySize, dataType);
+        data = new int[arraySize];
+        basePacked = PackedIntArray.of(baseData);
+        packed = new PackedIntArray(arraySize, basePacked.getBitsPerValue());
+        System.out.println("=== Energy Monitoring Setup ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.println("Array Size: " + arraySize);
+        System.out.println("Data Type: " + dataType);
+        System.out.println("Bits Per Value: " + basePacked.getBitsPerValue());
+        System.out.println("int[] Footprint (bytes): " + 4L * arraySize);
+        System.out.println("Packed Footprint (bytes): " + basePacked.getFootprintBytes());
+        System.out.println("==============================");
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // As cópias ficam fora da medição
+        System.arraycopy(baseData, 0, data, 0, arraySize);
+        packed.copyFrom(basePacked);
+    }
+
+    @Benchmark
+    public PackedIntArray packedRadixSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.radixSort(packed);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("PackedRadixSort", packed.getFootprintBytes(), energy);
+        return packed;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.radixSort(data);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("RadixSort", 4L * arraySize, energy);
+        return data;
+    }
+
+    @Benchmark
+    public int[] javaSort() {
+        EnergyMonitor.startMeasurement();
+        SortingAlgorithms.javaSort(data);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("JavaSort", 4L * arraySize, energy);
+        return data;
+    }
+
+    private void recordEnergyConsumption(String algorithm, long footprintBytes, double energy) {
+        EnergyProfiler.record(energy);
+        // Tag própria: as colunas diferem das linhas [ENERGY] do SortingBenchmark
+        // Colunas: Algorithm,DataType,Size,FootprintBytes,Energy,DRAMEnergy,Unit
+        if (Boolean.getBoolean("energy.logging.enabled")) {
+            System.out.printf("[PACKED_ENERGY] %s,%s,%d,%d,%.6f,%.6f,%s%n",
+                algorithm, dataType, arraySize, footprintBytes, energy,
+                EnergyMonitor.getLastDramEnergy(), EnergyMonitor.getMeasurementUnit());
+        }
+    }
+
+    /**
+     * Método principal para executar os benchmarks de arrays empacotados
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include("^" + PackedSortBenchmark.class.getName() + "\\.")
+                .jvmArgsPrepend("-Denergy.logging.enabled=true")
+                .addProfiler(EnergyProfiler.class)
+                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.CSV)
+                .result("packed_sort_results.csv")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,175 @@
+package br.edu.ufabc.energy.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Histograma de janela deslizante com limites fixos de bucket.
+ *
+ * A janela é dividida em fatias de mesmo tamanho num anel; cada fatia guarda suas
+ * contagens e é zerada quando o anel volta a ela, então o snapshot cobre apenas as
+ * últimas windowMillis. Usado pelo SoakBenchmark para expor latência, vazão e
+ * potência em formato Prometheus sem crescer com a duração da execução.
+ */
+final class RollingHistogram {
+
+    private final double[] bounds;
+    private final long sliceMillis;
+
+    // Por fatia: contagem por bucket (o último é +Inf), soma, total e o índice da fatia
+    private final long[][] sliceBuckets;
+    private final double[] sliceSum;
+    private final long[] sliceCount;
+    private final long[] sliceId;
+
+    RollingHistogram(double[] bounds, long windowMillis, int slices) {
+        if (slices <= 0 || windowMillis < slices) {
+            throw new IllegalArgumentException("Invalid window: " + windowMillis + " ms in " + slices + " slices");
+        }
+        this.bounds = bounds.clone();
+        this.sliceMillis = windowMillis / slices;
+        this.sliceBuckets = new long[slices][bounds.length + 1];
+        this.sliceSum = new double[slices];
+        this.sliceCount = new long[slices];
+        this.sliceId = new long[slices];
+        Arrays.fill(sliceId, -1L);
+    }
+
+    /**
+     * Limites exponenciais: start, start*factor, ..., count valores
+     */
+    static double[] exponentialBounds(double start, double factor, int count) {
+        double[] result = new double[count];
+        double value = start;
+        for (int i = 0; i < count; i++) {
+            result[i] = value;
+            value *= factor;
+        }
+        return result;
+    }
+
+    /**
+     * Limites lineares: start, start+width, ..., count valores
+     */
+    static double[] linearBounds(double start, double width, int count) {
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = start + i * width;
+        }
+        return result;
+    }
+
+    synchronized void record(double value, long nowMillis) {
+        int slice = currentSlice(nowMillis);
+        int bucket = Arrays.binarySearch(bounds, value);
+        // Bucket "le": o primeiro limite >= valor
+        bucket = bucket >= 0 ? bucket : -bucket - 1;
+        sliceBuckets[slice][bucket]++;
+        sliceSum[slice] += value;
+        sliceCount[slice]++;
+    }
+
+    /**
+     * Agrega as fatias ainda dentro da janela e escreve o histograma em formato
+     * de exposição do Prometheus (buckets cumulativos, _sum e _count)
+     */
+    synchronized void writeTo(StringBuilder out, String name, String labels, long nowMillis) {
+        long[] buckets = windowBuckets(nowMillis);
+        long current = nowMillis / sliceMillis;
+        double sum = 0.0;
+        for (int s = 0; s < sliceId.length; s++) {
+            if (isLive(s, current)) {
+                sum += sliceSum[s];
+            }
+        }
+
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int b = 0; b < bounds.length; b++) {
+            cumulative += buckets[b];
+            out.append(name).append("_bucket{").append(prefix).append("le=\"")
+                .append(formatValue(bounds[b])).append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += buckets[bounds.length];
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum").append(labels.isEmpty() ? "" : "{" + labels + "}")
+            .append(' ').append(formatValue(sum)).append('\n');
+        out.append(name).append("_count").append(labels.isEmpty() ? "" : "{" + labels + "}")
+            .append(' ').append(cumulative).append('\n');
+    }
+
+    /**
+     * Quantil estimado sobre a janela, com a mesma interpolação linear dentro do
+     * bucket do histogram_quantile do Prometheus; valores acima do último limite
+     * resultam no último limite.
+     *
+     * @return o quantil, ou NaN se não há amostras na janela
+     */
+    synchronized double quantile(double q, long nowMillis) {
+        long[] buckets = windowBuckets(nowMillis);
+        long count = 0;
+        for (long bucket : buckets) {
+            count += bucket;
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double rank = q * count;
+        long cumulative = 0;
+        for (int b = 0; b < bounds.length; b++) {
+            long previous = cumulative;
+            cumulative += buckets[b];
+            if (buckets[b] > 0 && cumulative >= rank) {
+                double lower = b == 0 ? Math.min(0.0, bounds[0]) : bounds[b - 1];
+                return lower + (bounds[b] - lower) * (rank - previous) / buckets[b];
+            }
+        }
+        return bounds[bounds.length - 1];
+    }
+
+    // Contagens por bucket somadas sobre as fatias ainda dentro da janela
+    private long[] windowBuckets(long nowMillis) {
+        long current = nowMillis / sliceMillis;
+        long[] buckets = new long[bounds.length + 1];
+        for (int s = 0; s < sliceId.length; s++) {
+            if (!isLive(s, current)) {
+                continue;
+            }
+            for (int b = 0; b < buckets.length; b++) {
+                buckets[b] += sliceBuckets[s][b];
+            }
+        }
+        return buckets;
+    }
+
+    private boolean isLive(int slice, long currentId) {
+        return sliceId[slice] >= 0 && currentId - sliceId[slice] < sliceId.length;
+    }
+
+    private int currentSlice(long nowMillis) {
+        long id = nowMillis / sliceMillis;
+        int slice = (int) (id % sliceId.length);
+        if (sliceId[slice] != id) {
+            // A fatia pertence a uma volta anterior do anel: descarta
+            Arrays.fill(sliceBuckets[slice], 0L);
+            sliceSum[slice] = 0.0;
+            sliceCount[slice] = 0;
+            sliceId[slice] = id;
+        }
+        return slice;
+    }
+
+    static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            // Contadores inteiros sem perder dígitos
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.6g", value);
+    }
+}
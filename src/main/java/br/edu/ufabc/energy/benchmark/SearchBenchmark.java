@@ -0,0 +1,144 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.SearchLayout;
+import br.edu.ufabc.energy.algorithms.SearchLayouts;
+import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de buscas sobre a saída ordenada: busca binária, layout de Eytzinger
+ * e B+-tree estática. Cada operação faz QUERIES buscas; buildAndLookup inclui a
+ * construção do layout, para ver a partir de quantas buscas ele compensa.
+ * Os tamanhos são os do SortingBenchmark mais 10^6, que já não cabe na L2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class SearchBenchmark {
+
+    static final int QUERIES = 4096;
+    // Largura dos intervalos em rangeCount, em unidades de valor
+    private static final int RANGE_WIDTH = 100;
+
+    public enum Layout {
+        BINARY_SEARCH {
+            @Override
+            SearchLayout build(int[] sorted) {
+                return SearchLayouts.binarySearch(sorted);
+            }
+        },
+        EYTZINGER {
+            @Override
+            SearchLayout build(int[] sorted) {
+                return SearchLayouts.eytzinger(sorted);
+            }
+        },
+        STATIC_BPLUS_TREE {
+            @Override
+            SearchLayout build(int[] sorted) {
+                return SearchLayouts.staticBPlusTree(sorted);
+            }
+        };
+
+        abstract SearchLayout build(int[] sorted);
+    }
+
+    @Param({"1000", "5000", "10000", "25000", "1000000"})
+    private int arraySize;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "WITH_DUPLICATES", "NEARLY_SORTED"})
+    private DataGenerator.DataType dataType;
+
+    @Param
+    private Layout layout;
+
+    private int[] sorted;
+    private int[] queries;
+    private SearchLayout index;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        EnergyMonitor.initialize();
+        System.out.println("=== Energy Monitoring Setup ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.println("Array Size: " + arraySize);
+        System.out.println("Data Type: " + dataType);
+        System.out.println("Layout: " + layout);
+        System.out.println("==============================");
+
+        sorted = DataGenerator.generateArray(arraySize, dataType);
+        SortingAlgorithms.javaSort(sorted);
+        index = layout.build(sorted);
+
+        // Chaves uniformes no intervalo dos valores, incluindo ausentes e acima do máximo
+        Random random = new Random(42);
+        queries = new int[QUERIES];
+        int bound = sorted[sorted.length - 1] + 2;
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public long lookup() {
+        EnergyMonitor.startMeasurement();
+        long checksum = lookupAll(index);
+        EnergyProfiler.record(EnergyMonitor.stopMeasurement());
+        return checksum;
+    }
+
+    @Benchmark
+    public long buildAndLookup() {
+        EnergyMonitor.startMeasurement();
+        long checksum = lookupAll(layout.build(sorted));
+        EnergyProfiler.record(EnergyMonitor.stopMeasurement());
+        return checksum;
+    }
+
+    @Benchmark
+    public long rangeCount() {
+        EnergyMonitor.startMeasurement();
+        long total = 0;
+        for (int key : queries) {
+            total += index.countInRange(key, key + RANGE_WIDTH);
+        }
+        EnergyProfiler.record(EnergyMonitor.stopMeasurement());
+        return total;
+    }
+
+    private long lookupAll(SearchLayout layout) {
+        long checksum = 0;
+        for (int key : queries) {
+            checksum += layout.lowerBound(key);
+        }
+        return checksum;
+    }
+
+    /**
+     * Método principal para executar os benchmarks de busca
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include("^" + SearchBenchmark.class.getName() + "\\.")
+                .addProfiler(EnergyProfiler.class)
+                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.CSV)
+                .result("search_results.csv")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
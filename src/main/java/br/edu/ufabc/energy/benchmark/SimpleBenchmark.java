@@ -1,7 +1,11 @@
 package br.edu.ufabc.energy.benchmark;
 
-import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
+import br.edu.ufabc.energy.algorithms.SortingAlgorithm;
 import br.edu.ufabc.energy.util.DataGenerator;
+import br.edu.ufabc.energy.monitoring.AllocationMonitor;
+import br.edu.ufabc.energy.monitoring.EnergyBreakdown;
+import br.edu.ufabc.energy.monitoring.EnergyDomain;
 import br.edu.ufabc.energy.monitoring.EnergyMonitor;
 
 import java.util.Arrays;
@@ -15,21 +19,24 @@ public class SimpleBenchmark {
         System.out.println("=== Simple Energy Benchmark ===");
         
         EnergyMonitor.initialize();
+        AllocationMonitor.initialize();
+        EnergyMonitor.ensureIdleBaseline();
         System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Allocation Counter Available: " + AllocationMonitor.isAllocationCounterAvailable());
         System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.printf("Idle Power (W): package=%.3f core=%.3f uncore=%.3f dram=%.3f%n",
+            EnergyMonitor.getIdleWatts(EnergyDomain.PACKAGE), EnergyMonitor.getIdleWatts(EnergyDomain.CORE),
+            EnergyMonitor.getIdleWatts(EnergyDomain.UNCORE), EnergyMonitor.getIdleWatts(EnergyDomain.DRAM));
         System.out.println();
         
         // Tamanhos de teste
         int[] sizes = {1000, 5000, 10000};
         
         // Tipos de dados
-        DataGenerator.DataType[] dataTypes = {
-            DataGenerator.DataType.RANDOM,
-            DataGenerator.DataType.SORTED,
-            DataGenerator.DataType.REVERSE_SORTED
-        };
+        DataGenerator.DataType[] dataTypes = DataGenerator.DataType.values();
         
-        System.out.println("Algorithm,DataType,Size,Energy,Unit,Time(ms)");
+        System.out.println("Algorithm,DataType,Size,Energy,Unit,Time(ms),AllocBytes/op,GCCount,GCTime(ms),GCFraction,"
+            + "NetEnergy,Package,Core,Uncore,DRAM");
         
         for (int size : sizes) {
             for (DataGenerator.DataType dataType : dataTypes) {
@@ -44,14 +51,12 @@ public class SimpleBenchmark {
         // Gera dados base
         int[] baseData = DataGenerator.generateArray(size, dataType);
         
-        // Executa cada algoritmo
-        runAlgorithm("BubbleSort", baseData, dataType, SortingAlgorithms::bubbleSort);
-        runAlgorithm("QuickSort", baseData, dataType, SortingAlgorithms::quickSort);
-        runAlgorithm("MergeSort", baseData, dataType, SortingAlgorithms::mergeSort);
-        runAlgorithm("InsertionSort", baseData, dataType, SortingAlgorithms::insertionSort);
-        runAlgorithm("SelectionSort", baseData, dataType, SortingAlgorithms::selectionSort);
-        runAlgorithm("HeapSort", baseData, dataType, SortingAlgorithms::heapSort);
-        runAlgorithm("JavaSort", baseData, dataType, SortingAlgorithms::javaSort);
+        // Executa cada algoritmo registrado, pulando os que não compensam neste tamanho
+        for (AlgorithmRegistry algorithm : AlgorithmRegistry.values()) {
+            if (algorithm.isRecommendedFor(size)) {
+                runAlgorithm(algorithm.getDisplayName(), baseData, dataType, algorithm);
+            }
+        }
     }
     
     private static void runAlgorithm(String algorithmName, int[] baseData, 
@@ -62,6 +67,12 @@ public class SimpleBenchmark {
         int iterations = 5;
         double totalEnergy = 0;
         long totalTime = 0;
+        long totalAllocated = 0;
+        long totalGcCount = 0;
+        long totalGcTime = 0;
+        long totalWindowNanos = 0;
+        double totalNetEnergy = 0;
+        double[] totalDomainEnergy = new double[EnergyDomain.values().length];
         
         for (int i = 0; i < iterations; i++) {
             // Copia dados para cada iteração
@@ -69,15 +80,28 @@ public class SimpleBenchmark {
             
             // Medição
             long startTime = System.currentTimeMillis();
+            // Alocação medida só em volta do sort, dentro da janela de energia
             EnergyMonitor.startMeasurement();
+            AllocationMonitor.startMeasurement();
             
             algorithm.sort(data);
             
+            AllocationMonitor.Measurement allocation = AllocationMonitor.stopMeasurement();
             double energy = EnergyMonitor.stopMeasurement();
             long endTime = System.currentTimeMillis();
+            EnergyBreakdown breakdown = EnergyMonitor.getLastBreakdown();
             
             totalEnergy += energy;
+            totalNetEnergy += breakdown.getNetTotal();
+            for (EnergyDomain domain : EnergyDomain.values()) {
+                // Domínio indisponível permanece NaN na média
+                totalDomainEnergy[domain.ordinal()] += breakdown.getGross(domain);
+            }
             totalTime += (endTime - startTime);
+            totalAllocated += allocation.getAllocatedBytes();
+            totalGcCount += allocation.getGcCount();
+            totalGcTime += allocation.getGcTimeMillis();
+            totalWindowNanos += allocation.getElapsedNanos();
             
             // Verifica se está ordenado (validação)
             if (!isArraySorted(data)) {
@@ -89,11 +113,21 @@ public class SimpleBenchmark {
         // Calcula médias
         double avgEnergy = totalEnergy / iterations;
         double avgTime = totalTime / (double) iterations;
+        long avgAllocated = totalAllocated / iterations;
+        double gcFraction = totalWindowNanos > 0
+            ? Math.min(1.0, (totalGcTime * 1_000_000.0) / totalWindowNanos)
+            : 0.0;
         
         // Output
-        System.out.printf("%s,%s,%d,%.6f,%s,%.2f%n", 
+        System.out.printf("%s,%s,%d,%.6f,%s,%.2f,%d,%d,%d,%.4f,%.6f,%.6f,%.6f,%.6f,%.6f%n", 
             algorithmName, dataType, baseData.length, 
-            avgEnergy, EnergyMonitor.getMeasurementUnit(), avgTime);
+            avgEnergy, EnergyMonitor.getMeasurementUnit(), avgTime,
+            avgAllocated, totalGcCount, totalGcTime, gcFraction,
+            totalNetEnergy / iterations,
+            totalDomainEnergy[EnergyDomain.PACKAGE.ordinal()] / iterations,
+            totalDomainEnergy[EnergyDomain.CORE.ordinal()] / iterations,
+            totalDomainEnergy[EnergyDomain.UNCORE.ordinal()] / iterations,
+            totalDomainEnergy[EnergyDomain.DRAM.ordinal()] / iterations);
     }
     
     private static boolean isArraySorted(int[] arr) {
@@ -104,10 +138,5 @@ public class SimpleBenchmark {
         }
         return true;
     }
-    
-    @FunctionalInterface
-    private interface SortingAlgorithm {
-        void sort(int[] array);
-    }
 }
 
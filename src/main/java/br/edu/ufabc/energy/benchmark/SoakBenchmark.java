@@ -0,0 +1,262 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
+import br.edu.ufabc.energy.monitoring.AllocationMonitor;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modo soak: executa continuamente uma lista de workloads de ordenação por horas
+ * e expõe métricas em formato de texto do Prometheus num endpoint HTTP local
+ * (servidor HTTP embutido do JDK, apenas em localhost), para acompanhar
+ * throttling térmico, deriva de GC e variações de potência durante a execução.
+ *
+ * Os workloads se revezam em fatias de tempo; em cada fatia a energia é medida de
+ * uma vez pelo EnergyMonitor (leituras RAPL por ordenação seriam dominadas pela
+ * resolução do contador) e a latência de cada ordenação por System.nanoTime.
+ * Os histogramas cobrem apenas a janela deslizante mais recente.
+ *
+ * Propriedades:
+ * -Dsoak.port (9464; 0 escolhe uma porta livre),
+ * -Dsoak.workloads (lista ALGORITMO:TIPO:TAMANHO separada por vírgula),
+ * -Dsoak.sliceMillis (1000), -Dsoak.windowSeconds (300),
+ * -Dsoak.durationSeconds (0 = até o processo ser encerrado).
+ */
+public class SoakBenchmark {
+
+    private static final String DEFAULT_WORKLOADS =
+        "JAVA_SORT:RANDOM:100000,MERGE_SORT:RANDOM:100000,QUICK_SORT:RANDOM:100000,HEAP_SORT:RANDOM:100000";
+    private static final String METRIC_PREFIX = "sorting_soak_";
+    private static final int WINDOW_SLICES = 10;
+
+    // Nome, tipo e descrição das métricas acumuladas, na ordem de Workload.totals()
+    private static final String[][] TOTALS = {
+        {"sorts_total", "counter", "Sorts completed since start."},
+        {"energy_joules_total", "counter", "Energy measured since start."},
+        {"allocated_bytes_total", "counter", "Bytes allocated by the soak thread since start."},
+        {"gc_seconds_total", "counter", "Garbage collection time overlapping the workload since start."},
+        {"gc_fraction", "gauge", "Fraction of the last time slice spent in garbage collection."}
+    };
+
+    private static final double[] LATENCY_BOUNDS = RollingHistogram.exponentialBounds(1e-6, 2.0, 25);
+    private static final double[] THROUGHPUT_BOUNDS = RollingHistogram.exponentialBounds(1.0, 2.0, 24);
+    private static final double[] WATTS_BOUNDS = RollingHistogram.linearBounds(5.0, 5.0, 60);
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("soak.port", 9464);
+        long sliceMillis = Long.getLong("soak.sliceMillis", 1000L);
+        long windowMillis = Long.getLong("soak.windowSeconds", 300L) * 1000L;
+        long durationMillis = Long.getLong("soak.durationSeconds", 0L) * 1000L;
+        List<Workload> workloads = parseWorkloads(System.getProperty("soak.workloads", DEFAULT_WORKLOADS),
+            windowMillis);
+
+        EnergyMonitor.initialize();
+        AllocationMonitor.initialize();
+        EnergyMonitor.ensureIdleBaseline();
+
+        long startMillis = System.currentTimeMillis();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> respond(exchange, workloads, startMillis));
+        server.start();
+
+        System.out.println("=== Soak Benchmark ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.println("Metrics: http://" + server.getAddress().getHostString() + ":"
+            + server.getAddress().getPort() + "/metrics");
+        for (Workload workload : workloads) {
+            System.out.println("Workload: " + workload.label);
+        }
+        System.out.println("Duration: " + (durationMillis > 0 ? durationMillis / 1000 + " s" : "until stopped"));
+
+        try {
+            runLoop(workloads, sliceMillis, durationMillis);
+        } finally {
+            server.stop(0);
+        }
+        System.out.println("=== Soak Complete ===");
+        // Latência da última janela, como o histogram_quantile calcularia no Prometheus
+        long nowMillis = System.currentTimeMillis();
+        for (Workload workload : workloads) {
+            System.out.printf("%s latency (s): p50=%s p95=%s p99=%s%n", workload.label,
+                RollingHistogram.formatValue(workload.latency.quantile(0.50, nowMillis)),
+                RollingHistogram.formatValue(workload.latency.quantile(0.95, nowMillis)),
+                RollingHistogram.formatValue(workload.latency.quantile(0.99, nowMillis)));
+        }
+    }
+
+    private static List<Workload> parseWorkloads(String spec, long windowMillis) {
+        List<Workload> workloads = new ArrayList<>();
+        for (String entry : spec.trim().split("\\s*,\\s*")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid workload (expected ALGORITHM:DATA_TYPE:SIZE): " + entry);
+            }
+            workloads.add(new Workload(AlgorithmRegistry.fromName(parts[0]),
+                DataGenerator.DataType.valueOf(parts[1].toUpperCase()), Integer.parseInt(parts[2]), windowMillis));
+        }
+        return workloads;
+    }
+
+    /**
+     * Revezamento dos workloads: cada um ocupa uma fatia inteira da thread principal
+     */
+    private static void runLoop(List<Workload> workloads, long sliceMillis, long durationMillis) {
+        long deadline = durationMillis > 0 ? System.currentTimeMillis() + durationMillis : Long.MAX_VALUE;
+        while (System.currentTimeMillis() < deadline) {
+            for (Workload workload : workloads) {
+                runSlice(workload, sliceMillis);
+                if (System.currentTimeMillis() >= deadline) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void runSlice(Workload workload, long sliceMillis) {
+        long sliceNanos = sliceMillis * 1_000_000L;
+        long sorts = 0;
+
+        EnergyMonitor.startMeasurement();
+        AllocationMonitor.startMeasurement();
+        long sliceStart = System.nanoTime();
+        long now = sliceStart;
+        do {
+            System.arraycopy(workload.baseData, 0, workload.data, 0, workload.data.length);
+            long start = System.nanoTime();
+            workload.algorithm.sort(workload.data);
+            now = System.nanoTime();
+            workload.latency.record((now - start) / 1e9, System.currentTimeMillis());
+            sorts++;
+        } while (now - sliceStart < sliceNanos);
+        AllocationMonitor.Measurement allocation = AllocationMonitor.stopMeasurement();
+        double energy = EnergyMonitor.stopMeasurement();
+
+        double seconds = (now - sliceStart) / 1e9;
+        workload.recordSlice(sorts, seconds, energy, allocation, System.currentTimeMillis());
+    }
+
+    private static void respond(HttpExchange exchange, List<Workload> workloads, long startMillis)
+            throws IOException {
+        byte[] body = renderMetrics(workloads, startMillis).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    static String renderMetrics(List<Workload> workloads, long startMillis) {
+        long nowMillis = System.currentTimeMillis();
+        StringBuilder out = new StringBuilder();
+
+        header(out, "uptime_seconds", "gauge", "Time since the soak run started.");
+        out.append(METRIC_PREFIX).append("uptime_seconds ")
+            .append(RollingHistogram.formatValue((nowMillis - startMillis) / 1000.0)).append('\n');
+        header(out, "energy_available", "gauge", "1 if RAPL energy is being measured, 0 otherwise.");
+        out.append(METRIC_PREFIX).append("energy_available ")
+            .append(EnergyMonitor.isAvailable() ? 1 : 0).append('\n');
+        header(out, "energy_estimated", "gauge", "1 if energy comes from the software model instead of RAPL.");
+        out.append(METRIC_PREFIX).append("energy_estimated ")
+            .append(EnergyMonitor.isEstimated() ? 1 : 0).append('\n');
+
+        header(out, "latency_seconds", "histogram", "Latency of one sort over the rolling window.");
+        for (Workload workload : workloads) {
+            workload.latency.writeTo(out, METRIC_PREFIX + "latency_seconds", workload.labels, nowMillis);
+        }
+        header(out, "sorts_per_second", "histogram", "Sorts per second of each time slice over the rolling window.");
+        for (Workload workload : workloads) {
+            workload.throughput.writeTo(out, METRIC_PREFIX + "sorts_per_second", workload.labels, nowMillis);
+        }
+        header(out, "watts", "histogram", "Average power of each time slice over the rolling window.");
+        for (Workload workload : workloads) {
+            workload.watts.writeTo(out, METRIC_PREFIX + "watts", workload.labels, nowMillis);
+        }
+
+        // Cada família precisa ter suas amostras contíguas, logo um snapshot por workload
+        List<double[]> totals = new ArrayList<>();
+        for (Workload workload : workloads) {
+            totals.add(workload.totals());
+        }
+        for (int i = 0; i < TOTALS.length; i++) {
+            header(out, TOTALS[i][0], TOTALS[i][1], TOTALS[i][2]);
+            for (int w = 0; w < workloads.size(); w++) {
+                out.append(METRIC_PREFIX).append(TOTALS[i][0]).append('{').append(workloads.get(w).labels)
+                    .append("} ").append(RollingHistogram.formatValue(totals.get(w)[i])).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(METRIC_PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(METRIC_PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Um workload configurado e suas métricas; os histogramas são sincronizados e os
+     * totais são protegidos pelo monitor do próprio workload
+     */
+    static final class Workload {
+        final AlgorithmRegistry algorithm;
+        final String label;
+        final String labels;
+        final int[] baseData;
+        final int[] data;
+
+        final RollingHistogram latency;
+        final RollingHistogram throughput;
+        final RollingHistogram watts;
+
+        private long sortsTotal;
+        private double energyTotal;
+        private long allocatedTotal;
+        private long gcMillisTotal;
+        private double lastGcFraction;
+
+        Workload(AlgorithmRegistry algorithm, DataGenerator.DataType dataType, int size, long windowMillis) {
+            this.algorithm = algorithm;
+            this.label = algorithm.name() + ":" + dataType + ":" + size;
+            this.labels = "algorithm=\"" + algorithm.getDisplayName() + "\",dataType=\"" + dataType
+                + "\",size=\"" + size + "\"";
+            this.baseData = DataGenerator.generateArray(size, dataType);
+            this.data = new int[size];
+            this.latency = new RollingHistogram(LATENCY_BOUNDS, windowMillis, WINDOW_SLICES);
+            this.throughput = new RollingHistogram(THROUGHPUT_BOUNDS, windowMillis, WINDOW_SLICES);
+            this.watts = new RollingHistogram(WATTS_BOUNDS, windowMillis, WINDOW_SLICES);
+        }
+
+        void recordSlice(long sorts, double seconds, double energy,
+                         AllocationMonitor.Measurement allocation, long nowMillis) {
+            throughput.record(sorts / seconds, nowMillis);
+            if (EnergyMonitor.isAvailable() || EnergyMonitor.isEstimated()) {
+                watts.record(energy / seconds, nowMillis);
+            }
+            synchronized (this) {
+                sortsTotal += sorts;
+                energyTotal += energy;
+                allocatedTotal += allocation.getAllocatedBytes();
+                gcMillisTotal += allocation.getGcTimeMillis();
+                lastGcFraction = allocation.getGcFraction();
+            }
+        }
+
+        /**
+         * Snapshot dos totais na ordem de TOTALS
+         */
+        synchronized double[] totals() {
+            return new double[] {sortsTotal, energyTotal, allocatedTotal, gcMillisTotal / 1000.0, lastGcFraction};
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package br.edu.ufabc.energy.benchmark;
 
-import br.edu.ufabc.energy.algorithms.SortingAlgorithms;
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
 import br.edu.ufabc.energy.util.DataGenerator;
+import br.edu.ufabc.energy.monitoring.AllocationMonitor;
+import br.edu.ufabc.energy.monitoring.EnergyBreakdown;
+import br.edu.ufabc.energy.monitoring.EnergyDomain;
 import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.monitoring.TraceWriter;
 
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Benchmark JMH para medir o consumo de energia de algoritmos de ordenação
+ * Benchmark JMH para medir o consumo de energia de algoritmos de ordenação.
+ * Os algoritmos vêm do AlgorithmRegistry: sem valores no @Param, o JMH usa
+ * todas as constantes do enum.
+ *
+ * O main() só inclui os pares (algoritmo, tamanho) recomendados. Executado direto
+ * pelo JMH (java -jar benchmarks.jar), um par acima do tamanho recomendado vira
+ * no-op: o setup avisa que foi pulado e o método medido retorna sem ordenar nem
+ * registrar energia, então o escore desse par não deve ser usado.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -23,120 +41,208 @@ import java.util.concurrent.TimeUnit;
 @Fork(1)
 public class SortingBenchmark {
 
+    /** Roda também os algoritmos acima do tamanho recomendado (ex.: quadráticos em arrays grandes) */
+    static final String RUN_ALL_PROPERTY = "benchmark.runAll";
+
     @Param({"1000", "5000", "10000", "25000"})
     private int arraySize;
 
-    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "WITH_DUPLICATES"})
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "WITH_DUPLICATES", "NEARLY_SORTED"})
     private DataGenerator.DataType dataType;
 
+    @Param
+    private AlgorithmRegistry algorithm;
+
     private int[] testData;
 
+    // Par acima do tamanho recomendado fora do main(): o benchmark vira no-op
+    private boolean skipped;
+
+    // Trace binário por invocação (-Denergy.trace.file); substitui o printf no laço medido
+    private TraceWriter trace;
+
     @Setup(Level.Trial)
     public void setupTrial() {
+        // Quando executado direto pelo JMH (java -jar benchmarks.jar), o filtro do main() não se aplica
+        skipped = !Boolean.getBoolean(RUN_ALL_PROPERTY) && !algorithm.isRecommendedFor(arraySize);
+        if (skipped) {
+            System.out.println("[SKIPPED] " + algorithm.getDisplayName() + " at size " + arraySize
+                + ": above its recommended maximum " + algorithm.getMaxRecommendedSize()
+                + " (use -D" + RUN_ALL_PROPERTY + "=true to run it anyway)");
+            return;
+        }
         EnergyMonitor.initialize();
+        AllocationMonitor.initialize();
+        // Potência ociosa por domínio, medida uma vez por fork e descontada na energia líquida
+        EnergyMonitor.ensureIdleBaseline();
+        trace = TraceWriter.openFromProperties();
         System.out.println("=== Energy Monitoring Setup ===");
         System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Allocation Counter Available: " + AllocationMonitor.isAllocationCounterAvailable());
         System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.printf("Idle Power (W): package=%.3f core=%.3f uncore=%.3f dram=%.3f%n",
+            EnergyMonitor.getIdleWatts(EnergyDomain.PACKAGE), EnergyMonitor.getIdleWatts(EnergyDomain.CORE),
+            EnergyMonitor.getIdleWatts(EnergyDomain.UNCORE), EnergyMonitor.getIdleWatts(EnergyDomain.DRAM));
         System.out.println("Array Size: " + arraySize);
         System.out.println("Data Type: " + dataType);
+        System.out.println("Algorithm: " + algorithm.getDisplayName());
+        if (trace != null) {
+            System.out.println("Trace File: " + System.getProperty(TraceWriter.TRACE_FILE_PROPERTY));
+        }
         System.out.println("==============================");
     }
 
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        if (trace != null) {
+            trace.close();
+            trace = null;
+        }
+    }
+
     @Setup(Level.Invocation)
     public void setupInvocation() {
+        if (skipped) {
+            return;
+        }
         // Gera novos dados para cada invocação para evitar cache effects
         testData = DataGenerator.generateArray(arraySize, dataType);
     }
 
     @Benchmark
-    public void bubbleSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.bubbleSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("BubbleSort", energy);
-    }
-
-    @Benchmark
-    public void quickSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.quickSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("QuickSort", energy);
-    }
-
-    @Benchmark
-    public void mergeSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.mergeSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("MergeSort", energy);
-    }
-
-    @Benchmark
-    public void insertionSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.insertionSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("InsertionSort", energy);
-    }
-
-    @Benchmark
-    public void selectionSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.selectionSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("SelectionSort", energy);
-    }
-
-    @Benchmark
-    public void heapSort() {
-        int[] data = DataGenerator.copyArray(testData);
-        EnergyMonitor.startMeasurement();
-        SortingAlgorithms.heapSort(data);
-        double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("HeapSort", energy);
-    }
-
-    @Benchmark
-    public void javaSort() {
+    public void sort() {
+        if (skipped) {
+            return;
+        }
         int[] data = DataGenerator.copyArray(testData);
+        // A janela de alocação fica dentro da de energia: a leitura dos contadores
+        // de energia (reflexão do jRAPL, sysfs) não entra em AllocBytes/op
         EnergyMonitor.startMeasurement();
-        SortingAlgorithms.javaSort(data);
+        AllocationMonitor.startMeasurement();
+        algorithm.sort(data);
+        AllocationMonitor.Measurement allocation = AllocationMonitor.stopMeasurement();
         double energy = EnergyMonitor.stopMeasurement();
-        recordEnergyConsumption("JavaSort", energy);
+        recordEnergyConsumption(algorithm.getDisplayName(), energy, EnergyMonitor.getLastBreakdown(), allocation);
     }
 
-    private void recordEnergyConsumption(String algorithm, double energy) {
+    private void recordEnergyConsumption(String algorithm, double energy, EnergyBreakdown breakdown,
+                                         AllocationMonitor.Measurement allocation) {
         // Log energy consumption for later analysis
         // Em um cenário real, isso poderia ser salvo em arquivo ou banco de dados
+        EnergyProfiler.record(energy);
+        if (trace != null) {
+            // Registro binário de largura fixa: sem formatação, alocação nem I/O no console
+            trace.record(this.algorithm.ordinal(), dataType.ordinal(), arraySize,
+                allocation.getElapsedNanos(), energy);
+            return;
+        }
+        // Colunas: Algorithm,DataType,Size,Energy,Unit,AllocBytes/op,GCCount,GCTime(ms),GCFraction,
+        //          NetEnergy,Package,Core,Uncore,DRAM (domínios brutos; NaN quando indisponível)
         if (Boolean.getBoolean("energy.logging.enabled")) {
-            System.out.printf("[ENERGY] %s,%s,%d,%.6f,%s%n", 
-                algorithm, dataType, arraySize, energy, EnergyMonitor.getMeasurementUnit());
+            System.out.printf("[ENERGY] %s,%s,%d,%.6f,%s,%d,%d,%d,%.4f,%.6f,%.6f,%.6f,%.6f,%.6f%n", 
+                algorithm, dataType, arraySize, energy, EnergyMonitor.getMeasurementUnit(),
+                allocation.getAllocatedBytes(), allocation.getGcCount(),
+                allocation.getGcTimeMillis(), allocation.getGcFraction(),
+                breakdown.getNetTotal(), breakdown.getGross(EnergyDomain.PACKAGE),
+                breakdown.getGross(EnergyDomain.CORE), breakdown.getGross(EnergyDomain.UNCORE),
+                breakdown.getGross(EnergyDomain.DRAM));
         }
     }
 
     /**
-     * Método principal para executar os benchmarks
+     * Método principal para executar os benchmarks.
+     * Executa uma rodada por tamanho, só com os algoritmos recomendados para ele,
+     * e junta todos os resultados em um único CSV.
      */
     public static void main(String[] args) throws RunnerException {
         // Habilita logging de energia
         System.setProperty("energy.logging.enabled", "true");
-        
-        Options opt = new OptionsBuilder()
-                .include(SortingBenchmark.class.getSimpleName())
+
+        // Com trace configurado, os forks gravam no arquivo em vez de imprimir
+        List<String> forkProperties = new ArrayList<>();
+        String traceFile = System.getProperty(TraceWriter.TRACE_FILE_PROPERTY);
+        if (traceFile != null) {
+            forkProperties.add("-D" + TraceWriter.TRACE_FILE_PROPERTY + "=" + traceFile);
+            String capacity = System.getProperty(TraceWriter.TRACE_CAPACITY_PROPERTY);
+            if (capacity != null) {
+                forkProperties.add("-D" + TraceWriter.TRACE_CAPACITY_PROPERTY + "=" + capacity);
+            }
+        } else {
+            forkProperties.add("-Denergy.logging.enabled=true");
+        }
+
+        Options base = new OptionsBuilder()
+                .jvmArgsPrepend(forkProperties.toArray(new String[0]))
                 .forks(1)
                 .warmupIterations(3)
                 .measurementIterations(5)
-                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.CSV)
-                .result("benchmark_results.csv")
                 .build();
 
-        new Runner(opt).run();
+        List<RunResult> results = runRecommended(base);
+        ResultFormatFactory.getInstance(ResultFormatType.CSV, "benchmark_results.csv").writeOut(results);
     }
-}
 
+    /**
+     * Executa o SortingBenchmark com as opções de base, uma rodada por tamanho,
+     * incluindo apenas os algoritmos recomendados para cada tamanho
+     * (todos, se -Dbenchmark.runAll=true).
+     */
+    static List<RunResult> runRecommended(Options base) throws RunnerException {
+        boolean runAll = Boolean.getBoolean(RUN_ALL_PROPERTY);
+        List<RunResult> results = new ArrayList<>();
+
+        // Mantém os argumentos de JVM da base (ex.: a configuração da matriz) e repassa runAll ao fork
+        List<String> jvmArgsAppend = new ArrayList<>();
+        if (base.getJvmArgsAppend().hasValue()) {
+            jvmArgsAppend.addAll(base.getJvmArgsAppend().get());
+        }
+        jvmArgsAppend.add("-D" + RUN_ALL_PROPERTY + "=" + runAll);
+
+        for (String size : parameterValues("arraySize", base)) {
+            List<String> algorithms = new ArrayList<>();
+            for (String name : parameterValues("algorithm", base)) {
+                AlgorithmRegistry algorithm = AlgorithmRegistry.fromName(name);
+                if (runAll || algorithm.isRecommendedFor(Integer.parseInt(size))) {
+                    algorithms.add(algorithm.name());
+                } else {
+                    System.out.println("Skipping " + algorithm.getDisplayName() + " at size " + size);
+                }
+            }
+            if (algorithms.isEmpty()) {
+                continue;
+            }
+
+            Options opt = new OptionsBuilder()
+                    .parent(base)
+                    .include("^" + SortingBenchmark.class.getName() + "\\.")
+                    .param("arraySize", size)
+                    .param("algorithm", algorithms.toArray(new String[0]))
+                    .jvmArgsAppend(jvmArgsAppend.toArray(new String[0]))
+                    .build();
+
+            results.addAll(new Runner(opt).run());
+        }
+        return results;
+    }
+
+    // Valores de um @Param: os definidos nas opções ou, na falta, os do próprio benchmark
+    private static List<String> parameterValues(String name, Options options) {
+        if (options.getParameter(name).hasValue()) {
+            return new ArrayList<>(options.getParameter(name).get());
+        }
+        List<String> values = new ArrayList<>();
+        if (name.equals("algorithm")) {
+            for (AlgorithmRegistry algorithm : AlgorithmRegistry.values()) {
+                values.add(algorithm.name());
+            }
+            return values;
+        }
+        try {
+            values.addAll(Arrays.asList(
+                SortingBenchmark.class.getDeclaredField(name).getAnnotation(Param.class).value()));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("Unknown benchmark parameter: " + name, e);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,152 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.StringSortingAlgorithms;
+import br.edu.ufabc.energy.monitoring.EnergyMonitor;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de ordenação de identificadores (String[] e byte[][]):
+ * MSD radix sort e multikey quicksort contra Arrays.sort, em tempo e energia,
+ * variando o tamanho do prefixo comum das chaves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StringSortingBenchmark {
+
+    public enum Algorithm {
+        JAVA_SORT("JavaSort") {
+            @Override
+            void sort(String[] keys) {
+                Arrays.sort(keys);
+            }
+
+            @Override
+            void sort(byte[][] keys) {
+                StringSortingAlgorithms.javaSort(keys);
+            }
+        },
+        MSD_RADIX_SORT("MsdRadixSort") {
+            @Override
+            void sort(String[] keys) {
+                StringSortingAlgorithms.msdRadixSort(keys);
+            }
+
+            @Override
+            void sort(byte[][] keys) {
+                StringSortingAlgorithms.msdRadixSort(keys);
+            }
+        },
+        MULTIKEY_QUICK_SORT("MultikeyQuickSort") {
+            @Override
+            void sort(String[] keys) {
+                StringSortingAlgorithms.multikeyQuickSort(keys);
+            }
+
+            @Override
+            void sort(byte[][] keys) {
+                StringSortingAlgorithms.multikeyQuickSort(keys);
+            }
+        };
+
+        private final String displayName;
+
+        Algorithm(String displayName) {
+            this.displayName = displayName;
+        }
+
+        abstract void sort(String[] keys);
+
+        abstract void sort(byte[][] keys);
+    }
+
+    @Param({"10000", "100000", "1000000"})
+    private int arraySize;
+
+    @Param({"0", "8", "32", "128"})
+    private int prefixLength;
+
+    @Param
+    private Algorithm algorithm;
+
+    private String[] baseStrings;
+    private byte[][] baseBytes;
+    private String[] strings;
+    private byte[][] bytes;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        EnergyMonitor.initialize();
+        System.out.println("=== Energy Monitoring Setup ===");
+        System.out.println("JRAPL Available: " + EnergyMonitor.isJRAPLAvailable());
+        System.out.println("Measurement Unit: " + EnergyMonitor.getMeasurementUnit());
+        System.out.println("Array Size: " + arraySize);
+        System.out.println("Prefix Length: " + prefixLength);
+        System.out.println("Algorithm: " + algorithm.displayName);
+        System.out.println("==============================");
+        baseStrings = DataGenerator.generateStrings(arraySize, prefixLength);
+        baseBytes = DataGenerator.toByteKeys(baseStrings);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // Só as referências são copiadas; as chaves são compartilhadas entre invocações
+        strings = DataGenerator.copyArray(baseStrings);
+        bytes = DataGenerator.copyArray(baseBytes);
+    }
+
+    @Benchmark
+    public String[] sortStrings() {
+        EnergyMonitor.startMeasurement();
+        algorithm.sort(strings);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("String", energy);
+        return strings;
+    }
+
+    @Benchmark
+    public byte[][] sortBytes() {
+        EnergyMonitor.startMeasurement();
+        algorithm.sort(bytes);
+        double energy = EnergyMonitor.stopMeasurement();
+        recordEnergyConsumption("byte[]", energy);
+        return bytes;
+    }
+
+    private void recordEnergyConsumption(String keyType, double energy) {
+        EnergyProfiler.record(energy);
+        // Tag própria: as colunas diferem das linhas [ENERGY] do SortingBenchmark
+        // Colunas: Algorithm,KeyType,Size,PrefixLength,Energy,Unit
+        if (Boolean.getBoolean("energy.logging.enabled")) {
+            System.out.printf("[STRING_ENERGY] %s,%s,%d,%d,%.6f,%s%n",
+                algorithm.displayName, keyType, arraySize, prefixLength, energy, EnergyMonitor.getMeasurementUnit());
+        }
+    }
+
+    /**
+     * Método principal para executar os benchmarks de strings
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include("^" + StringSortingBenchmark.class.getName() + "\\.")
+                .jvmArgsPrepend("-Denergy.logging.enabled=true")
+                .addProfiler(EnergyProfiler.class)
+                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.CSV)
+                .result("string_sorting_results.csv")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+package br.edu.ufabc.energy.benchmark;
+
+import br.edu.ufabc.energy.algorithms.AlgorithmRegistry;
+import br.edu.ufabc.energy.monitoring.TraceReader;
+import br.edu.ufabc.energy.util.DataGenerator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conversor offline do trace binário gravado pelo SortingBenchmark com
+ * -Denergy.trace.file: gera um CSV com uma linha por invocação e imprime
+ * estatísticas de tempo e energia por algoritmo, tipo de dado e tamanho.
+ *
+ * Os ids do trace são os ordinais de AlgorithmRegistry e DataGenerator.DataType,
+ * então o trace deve ser convertido com a mesma versão do código que o gravou.
+ *
+ * Uso: TraceConverter ARQUIVO_TRACE [ARQUIVO_CSV]
+ */
+public class TraceConverter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TraceConverter TRACE_FILE [CSV_FILE]");
+            System.exit(1);
+        }
+        Path trace = Paths.get(args[0]);
+        Path csv = Paths.get(args.length > 1 ? args[1] : args[0] + ".csv");
+
+        List<TraceReader.Entry> entries = TraceReader.readAll(trace);
+        writeCsv(csv, entries);
+        System.out.println("Records: " + entries.size());
+        System.out.println("CSV saved to: " + csv.toAbsolutePath());
+        System.out.println();
+        printSummary(entries);
+    }
+
+    private static void writeCsv(Path path, List<TraceReader.Entry> entries) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("Timestamp,Algorithm,DataType,Size,Nanos,Energy");
+            for (TraceReader.Entry entry : entries) {
+                Instant timestamp = Instant.ofEpochSecond(0L, entry.getTimestampEpochNanos());
+                out.printf(Locale.ROOT, "%s,%s,%s,%d,%d,%.9f%n", timestamp,
+                    algorithmName(entry.getAlgorithmId()), dataTypeName(entry.getDataTypeId()),
+                    entry.getSize(), entry.getNanos(), entry.getJoules());
+            }
+        }
+    }
+
+    /**
+     * Estatísticas por workload, na ordem em que aparecem no trace
+     */
+    private static void printSummary(List<TraceReader.Entry> entries) {
+        Map<String, List<TraceReader.Entry>> byWorkload = new LinkedHashMap<>();
+        for (TraceReader.Entry entry : entries) {
+            String key = algorithmName(entry.getAlgorithmId()) + "," + dataTypeName(entry.getDataTypeId())
+                + "," + entry.getSize();
+            byWorkload.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+
+        System.out.printf("%-45s %8s %12s %12s %12s %12s %12s %12s%n", "Algorithm,DataType,Size", "Count",
+            "Mean(ns)", "Median(ns)", "P95(ns)", "Mean(J)", "Median(J)", "P95(J)");
+        for (Map.Entry<String, List<TraceReader.Entry>> workload : byWorkload.entrySet()) {
+            List<TraceReader.Entry> group = workload.getValue();
+            double[] nanos = new double[group.size()];
+            double[] joules = new double[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                nanos[i] = group.get(i).getNanos();
+                joules[i] = group.get(i).getJoules();
+            }
+            Arrays.sort(nanos);
+            Arrays.sort(joules);
+            System.out.printf("%-45s %8d %12.0f %12.0f %12.0f %12.6f %12.6f %12.6f%n", workload.getKey(),
+                group.size(), mean(nanos), percentile(nanos, 0.5), percentile(nanos, 0.95),
+                mean(joules), percentile(joules, 0.5), percentile(joules, 0.95));
+        }
+    }
+
+    private static String algorithmName(int id) {
+        AlgorithmRegistry[] algorithms = AlgorithmRegistry.values();
+        return id >= 0 && id < algorithms.length ? algorithms[id].getDisplayName() : "Unknown#" + id;
+    }
+
+    private static String dataTypeName(int id) {
+        DataGenerator.DataType[] dataTypes = DataGenerator.DataType.values();
+        return id >= 0 && id < dataTypes.length ? dataTypes[id].name() : "Unknown#" + id;
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    // Percentil pelo método nearest-rank sobre valores já ordenados
+    private static double percentile(double[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,226 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Allocation and garbage collection monitoring utility.
+ * Uses the per-thread allocated-bytes counter of the HotSpot {@code ThreadMXBean}
+ * and the {@link GarbageCollectorMXBean}s to attribute allocation and GC activity
+ * to a measurement window.
+ *
+ * This class mirrors the static start/stop API of {@link EnergyMonitor} so both
+ * can wrap exactly the same region of benchmark code.
+ */
+public class AllocationMonitor {
+
+    private static final Logger logger = Logger.getLogger(AllocationMonitor.class.getName());
+
+    private static boolean initialized = false;
+    private static boolean measurementActive = false;
+    private static boolean allocationCounterAvailable = false;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+    private static List<GarbageCollectorMXBean> gcBeans;
+
+    private static long startAllocatedBytes = 0L;
+    private static long startGcCount = 0L;
+    private static long startGcTimeMillis = 0L;
+    private static long startNanos = 0L;
+
+    /**
+     * Initialize the allocation monitoring system.
+     * Enables the thread allocated-memory counter when the JVM supports it.
+     */
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+
+        gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            try {
+                if (threadBean.isThreadAllocatedMemorySupported()) {
+                    if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+                        threadBean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    allocationCounterAvailable = true;
+                }
+            } catch (UnsupportedOperationException | SecurityException e) {
+                allocationCounterAvailable = false;
+            }
+        }
+
+        if (!allocationCounterAvailable) {
+            logger.warning("Thread allocated-bytes counter not supported by this JVM. Allocation will be reported as 0.");
+        }
+
+        initialized = true;
+    }
+
+    /**
+     * Start a new allocation measurement session on the current thread.
+     * Call this method before executing the code to be measured.
+     */
+    public static void startMeasurement() {
+        if (!initialized) {
+            initialize();
+        }
+
+        startGcCount = totalGcCount();
+        startGcTimeMillis = totalGcTimeMillis();
+        startAllocatedBytes = currentAllocatedBytes();
+        startNanos = System.nanoTime();
+        measurementActive = true;
+    }
+
+    /**
+     * Stop the current allocation measurement session.
+     * Must be called on the same thread that called {@link #startMeasurement()}.
+     *
+     * @return the allocation and GC activity observed during the session
+     */
+    public static Measurement stopMeasurement() {
+        long endNanos = System.nanoTime();
+        long endAllocatedBytes = currentAllocatedBytes();
+
+        if (!initialized || !measurementActive) {
+            logger.warning("No active allocation measurement session");
+            return Measurement.EMPTY;
+        }
+
+        measurementActive = false;
+
+        long gcCount = totalGcCount() - startGcCount;
+        long gcTimeMillis = totalGcTimeMillis() - startGcTimeMillis;
+        long allocatedBytes = Math.max(0L, endAllocatedBytes - startAllocatedBytes);
+
+        return new Measurement(allocatedBytes, gcCount, gcTimeMillis, endNanos - startNanos);
+    }
+
+    /**
+     * Check if the per-thread allocated-bytes counter is available.
+     *
+     * @return true if allocation can be measured, false otherwise
+     */
+    public static boolean isAllocationCounterAvailable() {
+        if (!initialized) {
+            initialize();
+        }
+        return allocationCounterAvailable;
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or 0 if the counter is not available.
+     */
+    static long currentAllocatedBytes() {
+        if (!allocationCounterAvailable) {
+            return 0L;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * CPU time consumed so far by the current thread in nanoseconds, or 0 if the JVM
+     * does not measure thread CPU time.
+     */
+    static long currentThreadCpuNanos() {
+        if (!initialized) {
+            initialize();
+        }
+        ThreadMXBean bean = threadBean != null ? threadBean : ManagementFactory.getThreadMXBean();
+        if (!bean.isCurrentThreadCpuTimeSupported()) {
+            return 0L;
+        }
+        return Math.max(0L, bean.getCurrentThreadCpuTime());
+    }
+
+    private static long totalGcCount() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gc : gcBeans) {
+            long count = gc.getCollectionCount();
+            if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private static long totalGcTimeMillis() {
+        long total = 0L;
+        for (GarbageCollectorMXBean gc : gcBeans) {
+            long time = gc.getCollectionTime();
+            if (time > 0) {
+                total += time;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Allocation and GC activity observed during one measurement window.
+     */
+    public static final class Measurement {
+
+        static final Measurement EMPTY = new Measurement(0L, 0L, 0L, 0L);
+
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcTimeMillis;
+        private final long elapsedNanos;
+
+        Measurement(long allocatedBytes, long gcCount, long gcTimeMillis, long elapsedNanos) {
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMillis = gcTimeMillis;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return bytes allocated by the measuring thread during the window
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return number of garbage collections that ran during the window (all collectors)
+         */
+        public long getGcCount() {
+            return gcCount;
+        }
+
+        /**
+         * @return accumulated collection time reported by the collectors during the window, in milliseconds
+         */
+        public long getGcTimeMillis() {
+            return gcTimeMillis;
+        }
+
+        /**
+         * @return wall-clock length of the window in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Fraction of the window spent in GC, clamped to [0, 1].
+         * Collector time is reported with millisecond granularity, so very short
+         * windows will usually report 0.
+         */
+        public double getGcFraction() {
+            if (elapsedNanos <= 0) {
+                return 0.0;
+            }
+            double fraction = (gcTimeMillis * 1_000_000.0) / elapsedNanos;
+            return Math.min(1.0, Math.max(0.0, fraction));
+        }
+    }
+}
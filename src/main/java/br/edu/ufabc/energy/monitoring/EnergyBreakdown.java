@@ -0,0 +1,89 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Per-domain energy of one measurement session, with and without the idle baseline.
+ *
+ * Gross values are the raw RAPL deltas. Net values subtract the idle power measured by
+ * {@link EnergyMonitor#calibrateIdle(long)} over the length of the session, which removes
+ * the share of the machine's idle consumption from short measurements.
+ * Domains the hardware or the available interfaces do not expose are NaN.
+ */
+public final class EnergyBreakdown {
+
+    static final EnergyBreakdown EMPTY = new EnergyBreakdown(unavailable(), new double[EnergyDomain.values().length], 0L);
+
+    private final double[] grossJoules;
+    private final double[] idleWatts;
+    private final long elapsedNanos;
+
+    EnergyBreakdown(double[] grossJoules, double[] idleWatts, long elapsedNanos) {
+        this.grossJoules = grossJoules;
+        this.idleWatts = idleWatts;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    static double[] unavailable() {
+        double[] values = new double[EnergyDomain.values().length];
+        Arrays.fill(values, Double.NaN);
+        return values;
+    }
+
+    /**
+     * @return true if the domain was measured in this session
+     */
+    public boolean isAvailable(EnergyDomain domain) {
+        return !Double.isNaN(grossJoules[domain.ordinal()]);
+    }
+
+    /**
+     * @return the raw energy of the domain in Joules, or NaN if the domain is not available
+     */
+    public double getGross(EnergyDomain domain) {
+        return grossJoules[domain.ordinal()];
+    }
+
+    /**
+     * @return the energy of the domain minus its idle baseline, in Joules (never negative),
+     *         or NaN if the domain is not available
+     */
+    public double getNet(EnergyDomain domain) {
+        double gross = grossJoules[domain.ordinal()];
+        if (Double.isNaN(gross)) {
+            return Double.NaN;
+        }
+        double idle = idleWatts[domain.ordinal()] * (elapsedNanos / 1e9);
+        return Math.max(0.0, gross - idle);
+    }
+
+    /**
+     * @return PACKAGE + DRAM gross energy in Joules (an unavailable domain counts as 0),
+     *         or NaN if neither was measured
+     */
+    public double getGrossTotal() {
+        return total(getGross(EnergyDomain.PACKAGE), getGross(EnergyDomain.DRAM));
+    }
+
+    /**
+     * @return PACKAGE + DRAM net energy in Joules (an unavailable domain counts as 0),
+     *         or NaN if neither was measured
+     */
+    public double getNetTotal() {
+        return total(getNet(EnergyDomain.PACKAGE), getNet(EnergyDomain.DRAM));
+    }
+
+    /**
+     * @return wall-clock length of the session in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    private static double total(double pkg, double dram) {
+        if (Double.isNaN(pkg) && Double.isNaN(dram)) {
+            return Double.NaN;
+        }
+        return (Double.isNaN(pkg) ? 0.0 : pkg) + (Double.isNaN(dram) ? 0.0 : dram);
+    }
+}
@@ -0,0 +1,12 @@
+package br.edu.ufabc.energy.monitoring;
+
+/**
+ * RAPL power domains.
+ * CORE and UNCORE are sub-domains of PACKAGE; the total energy of a measurement is PACKAGE + DRAM.
+ */
+public enum EnergyDomain {
+    PACKAGE,
+    CORE,
+    UNCORE,
+    DRAM
+}
@@ -0,0 +1,300 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Linear software energy model used when RAPL counters are not available
+ * (virtual machines, containers, non-Intel hosts).
+ *
+ * Estimated energy = wallWatts * wall seconds + cpuWatts * thread CPU seconds
+ *                    + joulesPerByte * allocated bytes.
+ *
+ * The coefficients are fitted by {@code EnergyModelCalibrator} on a host that has RAPL
+ * and stored as a properties file, so the same file can be shipped to hosts without it.
+ * Estimates only account for the measuring thread's CPU time; work done by other
+ * threads (e.g. Arrays.parallelSort) is only seen through wall time.
+ */
+public final class EnergyModel {
+
+    private static final Logger logger = Logger.getLogger(EnergyModel.class.getName());
+
+    /** System property with the path of the model file */
+    public static final String MODEL_PROPERTY = "energy.model";
+
+    /** File used when the property is not set */
+    public static final String DEFAULT_MODEL_FILE = "energy-model.properties";
+
+    static final String KEY_WALL_WATTS = "model.wallWatts";
+    static final String KEY_CPU_WATTS = "model.cpuWatts";
+    static final String KEY_JOULES_PER_BYTE = "model.joulesPerByte";
+
+    private final double wallWatts;
+    private final double cpuWatts;
+    private final double joulesPerByte;
+
+    public EnergyModel(double wallWatts, double cpuWatts, double joulesPerByte) {
+        if (!(wallWatts >= 0) || !(cpuWatts >= 0) || !(joulesPerByte >= 0)) {
+            throw new IllegalArgumentException("Model coefficients must be non-negative: "
+                + wallWatts + ", " + cpuWatts + ", " + joulesPerByte);
+        }
+        this.wallWatts = wallWatts;
+        this.cpuWatts = cpuWatts;
+        this.joulesPerByte = joulesPerByte;
+    }
+
+    /**
+     * Load the model named by -Denergy.model (or energy-model.properties).
+     *
+     * @return the model, or null if there is no model file or it cannot be read
+     */
+    public static EnergyModel loadDefault() {
+        Path path = Paths.get(System.getProperty(MODEL_PROPERTY, DEFAULT_MODEL_FILE));
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            EnergyModel model = load(path);
+            logger.info("Energy model loaded from " + path.toAbsolutePath() + ": " + model);
+            return model;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Failed to load energy model " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Read a model from a properties file.
+     */
+    public static EnergyModel load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            props.load(in);
+        }
+        return new EnergyModel(
+            Double.parseDouble(required(props, KEY_WALL_WATTS)),
+            Double.parseDouble(required(props, KEY_CPU_WATTS)),
+            Double.parseDouble(required(props, KEY_JOULES_PER_BYTE)));
+    }
+
+    private static String required(Properties props, String key) {
+        String value = props.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing energy model key: " + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Write the model as a properties file.
+     */
+    public void store(Path path, String comments) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(KEY_WALL_WATTS, String.valueOf(wallWatts));
+        props.setProperty(KEY_CPU_WATTS, String.valueOf(cpuWatts));
+        props.setProperty(KEY_JOULES_PER_BYTE, String.valueOf(joulesPerByte));
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            props.store(out, comments);
+        }
+    }
+
+    /**
+     * Fit the coefficients to calibration samples by non-negative least squares.
+     * The optimum is the unconstrained least-squares fit on some subset of the columns
+     * (the coefficients outside it being zero), and with three columns every subset can
+     * be tried: the fit is the non-negative one with the smallest residual. This matters
+     * when wall and CPU time are nearly collinear and a free fit turns one of them negative.
+     *
+     * @param samples measurements with RAPL energy
+     * @return the fitted model
+     */
+    public static EnergyModel fit(List<Sample> samples) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("No calibration samples");
+        }
+        double[][] features = new double[samples.size()][];
+        double[] joules = new double[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            features[i] = samples.get(i).features();
+            joules[i] = samples.get(i).getJoules();
+        }
+
+        // Columns have very different magnitudes (seconds vs bytes): scale to unit RMS
+        int columns = features[0].length;
+        double[] scale = new double[columns];
+        for (int c = 0; c < columns; c++) {
+            double sumSquares = 0.0;
+            for (double[] row : features) {
+                sumSquares += row[c] * row[c];
+            }
+            scale[c] = sumSquares > 0 ? Math.sqrt(sumSquares / features.length) : 0.0;
+        }
+
+        // The empty subset (all coefficients zero) is always feasible
+        double[] coefficients = new double[columns];
+        double bestResidual = residual(features, joules, coefficients);
+        for (int subset = 1; subset < (1 << columns); subset++) {
+            List<Integer> active = new ArrayList<>();
+            for (int c = 0; c < columns; c++) {
+                if ((subset & (1 << c)) != 0 && scale[c] > 0) {
+                    active.add(c);
+                }
+            }
+            if (active.size() != Integer.bitCount(subset)) {
+                continue; // An all-zero column adds nothing to a smaller subset
+            }
+            double[] solution = solveLeastSquares(features, joules, scale, active);
+            double[] candidate = new double[columns];
+            boolean feasible = true;
+            for (int k = 0; k < solution.length; k++) {
+                feasible &= solution[k] >= 0;
+                candidate[active.get(k)] = solution[k] / scale[active.get(k)];
+            }
+            if (!feasible) {
+                continue;
+            }
+            double candidateResidual = residual(features, joules, candidate);
+            if (candidateResidual < bestResidual) {
+                bestResidual = candidateResidual;
+                coefficients = candidate;
+            }
+        }
+        return new EnergyModel(coefficients[0], coefficients[1], coefficients[2]);
+    }
+
+    // Sum of squared errors of the given (unscaled) coefficients
+    private static double residual(double[][] features, double[] joules, double[] coefficients) {
+        double sum = 0.0;
+        for (int r = 0; r < features.length; r++) {
+            double error = joules[r];
+            for (int c = 0; c < coefficients.length; c++) {
+                error -= coefficients[c] * features[r][c];
+            }
+            sum += error * error;
+        }
+        return sum;
+    }
+
+    // Normal equations over the active (scaled) columns, solved by Gaussian elimination
+    private static double[] solveLeastSquares(double[][] features, double[] joules, double[] scale,
+                                              List<Integer> active) {
+        int k = active.size();
+        double[][] matrix = new double[k][k + 1];
+        for (int r = 0; r < features.length; r++) {
+            for (int i = 0; i < k; i++) {
+                double xi = features[r][active.get(i)] / scale[active.get(i)];
+                for (int j = 0; j < k; j++) {
+                    matrix[i][j] += xi * features[r][active.get(j)] / scale[active.get(j)];
+                }
+                matrix[i][k] += xi * joules[r];
+            }
+        }
+
+        for (int col = 0; col < k; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < k; row++) {
+                if (Math.abs(matrix[row][col]) > Math.abs(matrix[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            double[] temp = matrix[col];
+            matrix[col] = matrix[pivot];
+            matrix[pivot] = temp;
+            if (Math.abs(matrix[col][col]) < 1e-12) {
+                continue; // Singular column: its coefficient stays 0
+            }
+            for (int row = 0; row < k; row++) {
+                if (row != col) {
+                    double factor = matrix[row][col] / matrix[col][col];
+                    for (int j = col; j <= k; j++) {
+                        matrix[row][j] -= factor * matrix[col][j];
+                    }
+                }
+            }
+        }
+
+        double[] solution = new double[k];
+        for (int i = 0; i < k; i++) {
+            solution[i] = Math.abs(matrix[i][i]) < 1e-12 ? 0.0 : matrix[i][k] / matrix[i][i];
+        }
+        return solution;
+    }
+
+    /**
+     * Estimate the energy of a measurement window.
+     *
+     * @return modelled energy in Joules
+     */
+    public double estimate(long wallNanos, long cpuNanos, long allocatedBytes) {
+        return wallWatts * (wallNanos / 1e9) + cpuWatts * (cpuNanos / 1e9) + joulesPerByte * allocatedBytes;
+    }
+
+    public double getWallWatts() {
+        return wallWatts;
+    }
+
+    public double getCpuWatts() {
+        return cpuWatts;
+    }
+
+    public double getJoulesPerByte() {
+        return joulesPerByte;
+    }
+
+    @Override
+    public String toString() {
+        return "EnergyModel{wallWatts=" + wallWatts + ", cpuWatts=" + cpuWatts
+            + ", joulesPerByte=" + joulesPerByte + "}";
+    }
+
+    /**
+     * One calibration measurement: resource usage of a window and its RAPL energy.
+     */
+    public static final class Sample {
+
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+        private final double joules;
+
+        public Sample(long wallNanos, long cpuNanos, long allocatedBytes, double joules) {
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.joules = joules;
+        }
+
+        double[] features() {
+            return new double[] {wallNanos / 1e9, cpuNanos / 1e9, allocatedBytes};
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public double getJoules() {
+            return joules;
+        }
+    }
+}
@@ -17,8 +17,27 @@ public class EnergyMonitor {
     private static boolean initialized = false;
     private static boolean measurementActive = false;
     private static double startEnergy = 0.0;
+    private static double startDramEnergy = 0.0;
+    private static long startNanos = 0L;
+    // Preallocated powercap readings, so a measurement does not allocate
+    private static long[] startDomainRaw;
+    private static long[] endDomainRaw;
+    private static long[] counterDomainRaw;
+    private static EnergyBreakdown lastBreakdown = EnergyBreakdown.EMPTY;
+    
+    // Per-domain counters from powercap, when readable (null otherwise). When present they are
+    // the only source of a measurement, gross and net, and jRAPL is not read
+    private static RaplDomainReader domainReader;
+    // Idle power per domain in Watts, indexed by EnergyDomain ordinal (zeros until calibrated)
+    private static double[] idleWatts = new double[EnergyDomain.values().length];
+    private static boolean idleCalibrated = false;
     private static boolean jraplAvailable = false;
     
+    // Software model used when neither jRAPL nor powercap can be read (null otherwise or without a model file)
+    private static EnergyModel energyModel;
+    private static long startCpuNanos = 0L;
+    private static long startAllocatedBytes = 0L;
+    
     // Reflection-based access to jRAPL classes to avoid compile-time dependency
     private static Class<?> energyCheckUtilsClass;
     private static Method initMethod;
@@ -62,6 +81,23 @@ public class EnergyMonitor {
             jraplAvailable = false;
         }
         
+        domainReader = RaplDomainReader.discover();
+        if (domainReader != null) {
+            startDomainRaw = domainReader.newRawBuffer();
+            endDomainRaw = domainReader.newRawBuffer();
+            counterDomainRaw = domainReader.newRawBuffer();
+            logger.info("Per-domain RAPL counters available through powercap");
+        }
+        
+        // The model is a last resort: real counters from either source always win
+        if (!jraplAvailable && domainReader == null) {
+            energyModel = EnergyModel.loadDefault();
+            if (energyModel != null) {
+                AllocationMonitor.initialize();
+                logger.info("Reporting energy estimated by the software model");
+            }
+        }
+        
         initialized = true;
     }
     
@@ -74,15 +110,20 @@ public class EnergyMonitor {
             initialize();
         }
         
-        if (!jraplAvailable) {
-            measurementActive = true;
-            return;
-        }
-        
         try {
-            // Update energy statistics and get baseline reading
-            energyStatsMethod.invoke(null);
-            startEnergy = getCurrentTotalEnergy();
+            if (domainReader != null) {
+                domainReader.readRaw(startDomainRaw);
+            } else if (jraplAvailable) {
+                // Update energy statistics and get baseline reading
+                energyStatsMethod.invoke(null);
+                startDramEnergy = getCurrentDramEnergy();
+                startEnergy = getCurrentTotalEnergy();
+            }
+            if (energyModel != null) {
+                startCpuNanos = AllocationMonitor.currentThreadCpuNanos();
+                startAllocatedBytes = AllocationMonitor.currentAllocatedBytes();
+            }
+            startNanos = System.nanoTime();
             measurementActive = true;
             
         } catch (Exception e) {
@@ -94,7 +135,8 @@ public class EnergyMonitor {
     /**
      * Stop the current energy measurement session and return the measured energy.
      * 
-     * @return the energy consumed during the measurement session in Joules, or 0 if jRAPL is not available
+     * @return the energy consumed during the measurement session in Joules, the software model
+     *         estimate if no RAPL counter is readable but a model is loaded (see {@link #isEstimated()}), or 0
      */
     public static double stopMeasurement() {
         if (!initialized || !measurementActive) {
@@ -102,19 +144,44 @@ public class EnergyMonitor {
             return 0.0;
         }
         
+        long elapsedNanos = System.nanoTime() - startNanos;
         measurementActive = false;
         
-        if (!jraplAvailable) {
-            return 0.0;
+        if (energyModel != null) {
+            long cpuNanos = AllocationMonitor.currentThreadCpuNanos() - startCpuNanos;
+            long allocatedBytes = AllocationMonitor.currentAllocatedBytes() - startAllocatedBytes;
+            // Nothing was measured: the breakdown stays NaN rather than pairing the estimate with zeros
+            lastBreakdown = EnergyBreakdown.EMPTY;
+            return energyModel.estimate(elapsedNanos, Math.max(0L, cpuNanos), Math.max(0L, allocatedBytes));
         }
+        lastBreakdown = EnergyBreakdown.EMPTY;
         
         try {
+            if (domainReader != null) {
+                // Gross, net and per-domain values all come from the same powercap readings
+                domainReader.readRaw(endDomainRaw);
+                lastBreakdown = new EnergyBreakdown(domainReader.deltaJoules(startDomainRaw, endDomainRaw),
+                    idleWatts, elapsedNanos);
+                double total = lastBreakdown.getGrossTotal();
+                return Double.isNaN(total) ? 0.0 : total;
+            }
+            if (!jraplAvailable) {
+                return 0.0;
+            }
+            
             // Update energy statistics and get final reading
             energyStatsMethod.invoke(null);
+            double endDramEnergy = getCurrentDramEnergy();
             double endEnergy = getCurrentTotalEnergy();
             
-            double consumedEnergy = endEnergy - startEnergy;
-            return Math.max(0.0, consumedEnergy); // Ensure non-negative result
+            double consumedEnergy = Math.max(0.0, endEnergy - startEnergy); // Ensure non-negative result
+            double dramEnergy = Math.max(0.0, endDramEnergy - startDramEnergy);
+            // Without powercap, jRAPL only separates the CPU package from DRAM
+            double[] domains = EnergyBreakdown.unavailable();
+            domains[EnergyDomain.PACKAGE.ordinal()] = Math.max(0.0, consumedEnergy - dramEnergy);
+            domains[EnergyDomain.DRAM.ordinal()] = dramEnergy;
+            lastBreakdown = new EnergyBreakdown(domains, idleWatts, elapsedNanos);
+            return consumedEnergy;
             
         } catch (Exception e) {
             logger.log(Level.WARNING, "Failed to stop energy measurement", e);
@@ -122,6 +189,132 @@ public class EnergyMonitor {
         }
     }
     
+    /**
+     * Get the per-domain breakdown of the last stopMeasurement() call, with gross values
+     * and net values (idle baseline removed).
+     * The breakdown comes from powercap when it is readable (even without jRAPL), otherwise
+     * from jRAPL's package and DRAM counters, and its gross total then equals stopMeasurement().
+     * A software model estimate is not a measurement and has no breakdown.
+     * 
+     * @return the breakdown of the last measurement session; all domains and totals NaN if no
+     *         RAPL counter was read (including when stopMeasurement() returned a model estimate)
+     */
+    public static EnergyBreakdown getLastBreakdown() {
+        return lastBreakdown;
+    }
+    
+    /**
+     * Measure the idle power of every domain by sleeping for the given duration.
+     * Run it on a quiet system: anything else running is counted as idle power and
+     * later subtracted from every net value.
+     * 
+     * @param durationMillis how long to sample the idle system
+     */
+    public static synchronized void calibrateIdle(long durationMillis) {
+        if (!initialized) {
+            initialize();
+        }
+        
+        try {
+            startMeasurement();
+            Thread.sleep(durationMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stopMeasurement();
+        
+        EnergyBreakdown idle = lastBreakdown;
+        double seconds = idle.getElapsedNanos() / 1e9;
+        double[] watts = new double[EnergyDomain.values().length];
+        for (EnergyDomain domain : EnergyDomain.values()) {
+            double joules = idle.getGross(domain);
+            watts[domain.ordinal()] = Double.isNaN(joules) || seconds <= 0 ? 0.0 : joules / seconds;
+        }
+        idleWatts = watts;
+        idleCalibrated = true;
+        lastBreakdown = EnergyBreakdown.EMPTY;
+        logger.info(String.format("Idle baseline: package=%.3f W, core=%.3f W, uncore=%.3f W, dram=%.3f W",
+            watts[EnergyDomain.PACKAGE.ordinal()], watts[EnergyDomain.CORE.ordinal()],
+            watts[EnergyDomain.UNCORE.ordinal()], watts[EnergyDomain.DRAM.ordinal()]));
+    }
+    
+    /**
+     * Calibrate the idle baseline once per JVM, for the duration given by the
+     * energy.idle.calibrationMillis system property (default 1000, 0 disables).
+     */
+    public static synchronized void ensureIdleBaseline() {
+        if (idleCalibrated) {
+            return;
+        }
+        if (!initialized) {
+            initialize();
+        }
+        long durationMillis = Long.getLong("energy.idle.calibrationMillis", 1000L);
+        // Nothing to calibrate when no energy counter is readable
+        if (durationMillis > 0 && (jraplAvailable || domainReader != null)) {
+            calibrateIdle(durationMillis);
+        } else {
+            idleCalibrated = true;
+        }
+    }
+    
+    /**
+     * Get the idle power of a domain measured by calibrateIdle().
+     * 
+     * @return idle power in Watts, or 0 if not calibrated or the domain is not available
+     */
+    public static double getIdleWatts(EnergyDomain domain) {
+        return idleWatts[domain.ordinal()];
+    }
+    
+    /**
+     * Read the cumulative RAPL energy counter (package + DRAM) without starting a session.
+     * The counter is machine-wide, so readings taken by different processes on the
+     * same host can be subtracted from each other (e.g. a launcher and the JVM it forks),
+     * as long as both read the same source; use {@link #energyBetween(double, double)}.
+     * Like a measurement, it comes from powercap when readable, otherwise from jRAPL.
+     * 
+     * @return the cumulative energy counter in Joules, or NaN if neither powercap nor jRAPL is available
+     */
+    public static double readEnergyCounter() {
+        if (!initialized) {
+            initialize();
+        }
+        
+        try {
+            if (domainReader != null) {
+                // Own buffer: a reading taken during a session does not clobber its start values
+                domainReader.readRaw(counterDomainRaw);
+                return domainReader.totalJoules(counterDomainRaw);
+            }
+            if (!jraplAvailable) {
+                return Double.NaN;
+            }
+            energyStatsMethod.invoke(null);
+            return getCurrentTotalEnergy();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Failed to read energy counter", e);
+            return Double.NaN;
+        }
+    }
+    
+    /**
+     * Energy between two readEnergyCounter() values. With powercap the counters wrap at each
+     * zone's max_energy_range_uj, which is added back when the difference is negative.
+     * 
+     * @return the energy between the two readings in Joules, or NaN if either reading is NaN
+     */
+    public static double energyBetween(double startCounter, double endCounter) {
+        if (!initialized) {
+            initialize();
+        }
+        double delta = endCounter - startCounter;
+        if (domainReader != null && !Double.isNaN(delta)) {
+            return domainReader.unwrapTotal(delta);
+        }
+        return delta;
+    }
+    
     /**
      * Get the current total energy reading (CPU + DRAM)
      */
@@ -131,13 +324,49 @@ public class EnergyMonitor {
         return cpuEnergy + dramEnergy;
     }
     
+    /**
+     * Get the current DRAM energy reading
+     */
+    private static double getCurrentDramEnergy() throws Exception {
+        return (Double) getDRAMEnergyMethod.invoke(null);
+    }
+    
+    /**
+     * Get the DRAM share of the energy returned by the last stopMeasurement() call.
+     * Memory-bound algorithms show up here rather than in the CPU domain.
+     * 
+     * @return the DRAM energy of the last measurement session in Joules, or 0 if jRAPL is not available
+     */
+    public static double getLastDramEnergy() {
+        double dram = lastBreakdown.getGross(EnergyDomain.DRAM);
+        return Double.isNaN(dram) ? 0.0 : dram;
+    }
+    
     /**
      * Get the unit of measurement for energy values returned by stopMeasurement().
      * 
-     * @return "Joules" if jRAPL is available, "N/A" otherwise
+     * @return "Joules" if a RAPL counter (jRAPL or powercap) is available, "N/A" otherwise
      */
     public static String getMeasurementUnit() {
-        return jraplAvailable ? "Joules" : "N/A";
+        if (!initialized) {
+            initialize();
+        }
+        if (jraplAvailable || domainReader != null) {
+            return "Joules";
+        }
+        return energyModel != null ? "Joules (estimated)" : "N/A";
+    }
+    
+    /**
+     * Check if stopMeasurement() reports modelled rather than measured energy.
+     * 
+     * @return true if neither jRAPL nor powercap is available and a software energy model is loaded
+     */
+    public static boolean isEstimated() {
+        if (!initialized) {
+            initialize();
+        }
+        return energyModel != null;
     }
     
     /**
@@ -158,8 +387,12 @@ public class EnergyMonitor {
      * @return description of the monitoring implementation
      */
     public static String getImplementationInfo() {
-        if (jraplAvailable) {
+        if (domainReader != null) {
+            return "Linux powercap RAPL counters (per-domain package, core, uncore and DRAM energy)";
+        } else if (jraplAvailable) {
             return "jRAPL (Java Runtime for Application Power and energy Library) - Hardware-based energy measurement using Intel RAPL";
+        } else if (energyModel != null) {
+            return "Software energy model (estimates from wall time, thread CPU time and allocated bytes): " + energyModel;
         } else {
             return "jRAPL not available - ensure jRAPL-3.0.jar is in classpath and running on supported Linux system";
         }
@@ -168,9 +401,12 @@ public class EnergyMonitor {
     /**
      * Check if energy monitoring is available on this system.
      * 
-     * @return true if jRAPL is available, false otherwise
+     * @return true if RAPL counters can be read through jRAPL or powercap, false otherwise
      */
     public static boolean isAvailable() {
-        return isJRAPLAvailable();
+        if (!initialized) {
+            initialize();
+        }
+        return jraplAvailable || domainReader != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Reads per-domain RAPL counters from the Linux powercap interface
+ * (/sys/class/powercap/intel-rapl:*), which exposes core and uncore
+ * separately from the package and DRAM values jRAPL returns.
+ * Reading energy_uj usually requires root on recent kernels.
+ *
+ * The energy_uj files stay open for the life of the JVM and are re-read at offset 0
+ * into a preallocated buffer, so a reading does not allocate: it can sit next to an
+ * allocation measurement without inflating it.
+ */
+final class RaplDomainReader {
+
+    private static final Logger logger = Logger.getLogger(RaplDomainReader.class.getName());
+
+    private static final Path POWERCAP_ROOT = Paths.get("/sys/class/powercap");
+
+    private final List<Zone> zones;
+    // Big enough for any 64-bit counter in decimal plus the newline
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+
+    RaplDomainReader(List<Zone> zones) {
+        this.zones = zones;
+    }
+
+    /**
+     * Discover the readable RAPL zones of this machine.
+     *
+     * @return a reader, or null if no zone can be read
+     */
+    static RaplDomainReader discover() {
+        if (!Files.isDirectory(POWERCAP_ROOT)) {
+            return null;
+        }
+
+        List<Zone> zones = new ArrayList<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(POWERCAP_ROOT, "intel-rapl:*")) {
+            for (Path dir : dirs) {
+                EnergyDomain domain = domainOf(readString(dir.resolve("name")));
+                Path energyFile = dir.resolve("energy_uj");
+                if (domain == null || !Files.isReadable(energyFile)) {
+                    continue;
+                }
+                long maxRange = Long.parseLong(readString(dir.resolve("max_energy_range_uj")));
+                // Read once now so an unreadable counter fails discovery, not a measurement
+                Long.parseLong(readString(energyFile));
+                zones.add(new Zone(domain, FileChannel.open(energyFile, StandardOpenOption.READ), maxRange));
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.fine("powercap RAPL zones not readable: " + e.getMessage());
+            closeAll(zones);
+            return null;
+        }
+
+        return zones.isEmpty() ? null : new RaplDomainReader(zones);
+    }
+
+    private static EnergyDomain domainOf(String zoneName) {
+        if (zoneName.startsWith("package-")) {
+            return EnergyDomain.PACKAGE;
+        }
+        switch (zoneName) {
+            case "core":
+                return EnergyDomain.CORE;
+            case "uncore":
+                return EnergyDomain.UNCORE;
+            case "dram":
+                return EnergyDomain.DRAM;
+            default:
+                // psys and other zones are not part of the breakdown
+                return null;
+        }
+    }
+
+    private static void closeAll(List<Zone> zones) {
+        for (Zone zone : zones) {
+            try {
+                zone.channel.close();
+            } catch (IOException e) {
+                // Discovery is already failing: nothing else to do with the channel
+            }
+        }
+    }
+
+    /**
+     * @return a buffer sized for {@link #readRaw(long[])}
+     */
+    long[] newRawBuffer() {
+        return new long[zones.size()];
+    }
+
+    /**
+     * Read the raw counter of every zone, in microjoules, without allocating.
+     * Not thread-safe: readings share one byte buffer.
+     *
+     * @param raw destination created by {@link #newRawBuffer()}
+     */
+    void readRaw(long[] raw) throws IOException {
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = readCounter(zones.get(i).channel);
+        }
+    }
+
+    private long readCounter(FileChannel channel) throws IOException {
+        buffer.clear();
+        // sysfs regenerates the attribute on every read from offset 0
+        int length = channel.read(buffer, 0L);
+        long value = 0L;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            int c = buffer.get(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+            digits++;
+        }
+        if (digits == 0) {
+            throw new IOException("Invalid powercap energy reading");
+        }
+        return value;
+    }
+
+    /**
+     * Per-domain energy between two raw readings, handling counter wrap-around.
+     *
+     * @return Joules indexed by {@link EnergyDomain#ordinal()}, NaN for domains without a zone
+     */
+    double[] deltaJoules(long[] start, long[] end) {
+        double[] joules = EnergyBreakdown.unavailable();
+        for (int i = 0; i < zones.size(); i++) {
+            Zone zone = zones.get(i);
+            long delta = end[i] - start[i];
+            if (delta < 0) {
+                delta += zone.maxRangeMicrojoules;
+            }
+            int d = zone.domain.ordinal();
+            joules[d] = (Double.isNaN(joules[d]) ? 0.0 : joules[d]) + delta / 1e6;
+        }
+        return joules;
+    }
+
+    /**
+     * Sum of the raw PACKAGE and DRAM counters, the same domains as the gross total.
+     * The value wraps with the counters: subtract two of them with {@link #unwrapTotal(double)}.
+     *
+     * @param raw a reading from {@link #readRaw(long[])}
+     * @return the counter sum in Joules
+     */
+    double totalJoules(long[] raw) {
+        long microjoules = 0L;
+        for (int i = 0; i < zones.size(); i++) {
+            if (isTotalDomain(zones.get(i).domain)) {
+                microjoules += raw[i];
+            }
+        }
+        return microjoules / 1e6;
+    }
+
+    /**
+     * Correct the difference of two {@link #totalJoules(long[])} values for counter wrap-around.
+     * Every zone that wraps lowers the sum by its max_energy_range_uj. The sum alone does not
+     * say which zones wrapped, so this adds back the combination of ranges that gives the
+     * smallest non-negative energy: real deltas are far below any range (hundreds of kJ),
+     * as long as no zone wraps twice between the two readings.
+     *
+     * @param deltaJoules later total minus earlier total
+     * @return the energy between the two readings in Joules
+     */
+    double unwrapTotal(double deltaJoules) {
+        if (deltaJoules >= 0) {
+            return deltaJoules;
+        }
+        List<Long> ranges = new ArrayList<>();
+        for (Zone zone : zones) {
+            if (isTotalDomain(zone.domain)) {
+                ranges.add(zone.maxRangeMicrojoules);
+            }
+        }
+        double best = Double.POSITIVE_INFINITY;
+        // One subset per bit pattern: a host has a handful of package and DRAM zones
+        for (int mask = 1; mask < (1 << ranges.size()); mask++) {
+            long wrapped = 0L;
+            for (int i = 0; i < ranges.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    wrapped += ranges.get(i);
+                }
+            }
+            double candidate = deltaJoules + wrapped / 1e6;
+            if (candidate >= 0 && candidate < best) {
+                best = candidate;
+            }
+        }
+        return best == Double.POSITIVE_INFINITY ? 0.0 : best;
+    }
+
+    private static boolean isTotalDomain(EnergyDomain domain) {
+        return domain == EnergyDomain.PACKAGE || domain == EnergyDomain.DRAM;
+    }
+
+    private static String readString(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.US_ASCII).trim();
+    }
+
+    static final class Zone {
+        final EnergyDomain domain;
+        final FileChannel channel;
+        final long maxRangeMicrojoules;
+
+        Zone(EnergyDomain domain, FileChannel channel, long maxRangeMicrojoules) {
+            this.domain = domain;
+            this.channel = channel;
+            this.maxRangeMicrojoules = maxRangeMicrojoules;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads back a trace written by {@link TraceWriter}, oldest record first.
+ * Intended for offline processing; unlike the writer it allocates freely.
+ */
+public final class TraceReader {
+
+    private TraceReader() {
+    }
+
+    /**
+     * Read every record still held in the ring.
+     *
+     * @param path trace file
+     * @return the records in write order; only the last capacity records survive a full ring
+     * @throws IOException if the file cannot be read or is not a trace
+     */
+    public static List<Entry> readAll(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < TraceWriter.HEADER_SIZE) {
+                throw new IOException("Not an energy trace (file too short): " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getLong(TraceWriter.MAGIC_OFFSET) != TraceWriter.MAGIC) {
+            throw new IOException("Not an energy trace (bad magic): " + path);
+        }
+        if (buffer.getInt(TraceWriter.VERSION_OFFSET) != TraceWriter.VERSION
+                || buffer.getInt(TraceWriter.RECORD_SIZE_OFFSET) != TraceWriter.RECORD_SIZE) {
+            throw new IOException("Unsupported energy trace version: " + buffer.getInt(TraceWriter.VERSION_OFFSET));
+        }
+        long capacity = buffer.getLong(TraceWriter.CAPACITY_OFFSET);
+        long writeCount = buffer.getLong(TraceWriter.WRITE_COUNT_OFFSET);
+        if (capacity <= 0 || writeCount < 0) {
+            throw new IOException("Corrupt energy trace header (capacity " + capacity
+                + ", write count " + writeCount + "): " + path);
+        }
+        // Divided rather than multiplied, so a huge corrupt capacity cannot overflow the check
+        if (capacity > (buffer.capacity() - TraceWriter.HEADER_SIZE) / TraceWriter.RECORD_SIZE) {
+            throw new IOException("Truncated energy trace: " + path);
+        }
+
+        long first = Math.max(0L, writeCount - capacity);
+        List<Entry> entries = new ArrayList<>((int) (writeCount - first));
+        for (long i = first; i < writeCount; i++) {
+            int offset = (int) (TraceWriter.HEADER_SIZE + (i % capacity) * TraceWriter.RECORD_SIZE);
+            entries.add(new Entry(
+                buffer.getLong(offset + TraceWriter.TIMESTAMP_FIELD),
+                buffer.getShort(offset + TraceWriter.ALGORITHM_FIELD),
+                buffer.getShort(offset + TraceWriter.DATA_TYPE_FIELD),
+                buffer.getInt(offset + TraceWriter.SIZE_FIELD),
+                buffer.getLong(offset + TraceWriter.NANOS_FIELD),
+                buffer.getDouble(offset + TraceWriter.JOULES_FIELD)));
+        }
+        return entries;
+    }
+
+    /**
+     * One traced measurement.
+     */
+    public static final class Entry {
+
+        private final long timestampEpochNanos;
+        private final int algorithmId;
+        private final int dataTypeId;
+        private final int size;
+        private final long nanos;
+        private final double joules;
+
+        Entry(long timestampEpochNanos, int algorithmId, int dataTypeId, int size, long nanos, double joules) {
+            this.timestampEpochNanos = timestampEpochNanos;
+            this.algorithmId = algorithmId;
+            this.dataTypeId = dataTypeId;
+            this.size = size;
+            this.nanos = nanos;
+            this.joules = joules;
+        }
+
+        /**
+         * @return wall-clock time the record was written, in nanoseconds since the epoch
+         */
+        public long getTimestampEpochNanos() {
+            return timestampEpochNanos;
+        }
+
+        public int getAlgorithmId() {
+            return algorithmId;
+        }
+
+        public int getDataTypeId() {
+            return dataTypeId;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return measured duration in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return measured energy in Joules
+         */
+        public double getJoules() {
+            return joules;
+        }
+    }
+}
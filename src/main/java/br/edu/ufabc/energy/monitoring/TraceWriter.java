@@ -0,0 +1,176 @@
+package br.edu.ufabc.energy.monitoring;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.logging.Logger;
+
+/**
+ * Binary trace of per-invocation measurements written to a memory-mapped ring file.
+ *
+ * Each call to {@link #record} stores one fixed-width record with absolute puts into
+ * the mapped buffer: no allocation, no formatting and no locking, so it can run inside
+ * a benchmark loop where System.out.printf would disturb the measurement. When the
+ * ring is full the oldest records are overwritten. Reopening an existing trace with the
+ * same capacity continues after its last record, so consecutive JMH forks share one file.
+ *
+ * Layout (little endian):
+ * <pre>
+ * header (64 bytes): magic, version, recordSize, capacity, writeCount
+ * record (32 bytes): timestampEpochNanos, nanos, joules, size, algorithmId, dataTypeId
+ * </pre>
+ * Use {@link TraceReader} to read it back. Instances are not thread-safe.
+ */
+public final class TraceWriter implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(TraceWriter.class.getName());
+
+    static final long MAGIC = 0x4543525454524f53L; // "SORTTRCE" in little endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 32;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 8;
+    static final int RECORD_SIZE_OFFSET = 12;
+    static final int CAPACITY_OFFSET = 16;
+    static final int WRITE_COUNT_OFFSET = 24;
+
+    static final int TIMESTAMP_FIELD = 0;
+    static final int NANOS_FIELD = 8;
+    static final int JOULES_FIELD = 16;
+    static final int SIZE_FIELD = 24;
+    static final int ALGORITHM_FIELD = 28;
+    static final int DATA_TYPE_FIELD = 30;
+
+    /** System property naming the trace file; tracing is off when it is not set */
+    public static final String TRACE_FILE_PROPERTY = "energy.trace.file";
+    /** System property with the ring capacity in records (default 1M records, 32 MB) */
+    public static final String TRACE_CAPACITY_PROPERTY = "energy.trace.capacity";
+    private static final long DEFAULT_CAPACITY = 1L << 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long capacity;
+    private long writeCount;
+
+    // Timestamps come from nanoTime shifted to the epoch once, to avoid Instant.now() per record
+    private final long epochBaseNanos;
+    private final long nanoTimeBase;
+
+    private TraceWriter(FileChannel channel, MappedByteBuffer buffer, long capacity, long writeCount) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.writeCount = writeCount;
+        Instant now = Instant.now();
+        this.nanoTimeBase = System.nanoTime();
+        this.epochBaseNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * Open the trace configured by the energy.trace.file system property.
+     *
+     * @return the writer, or null if tracing is not configured or the file cannot be opened
+     */
+    public static TraceWriter openFromProperties() {
+        String file = System.getProperty(TRACE_FILE_PROPERTY);
+        if (file == null || file.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return open(Path.of(file.trim()), Long.getLong(TRACE_CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not open energy trace " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Open a trace file, creating it or continuing an existing trace of the same capacity.
+     * An existing file with a different layout or capacity is overwritten.
+     *
+     * @param path trace file
+     * @param capacity number of records kept in the ring
+     */
+    public static TraceWriter open(Path path, long capacity) throws IOException {
+        if (capacity <= 0 || HEADER_SIZE + capacity * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Trace capacity out of range: " + capacity);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileSize = HEADER_SIZE + capacity * RECORD_SIZE;
+            boolean reusable = channel.size() == fileSize;
+            if (channel.size() > fileSize) {
+                channel.truncate(fileSize);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            long writeCount = 0L;
+            if (reusable && buffer.getLong(MAGIC_OFFSET) == MAGIC && buffer.getInt(VERSION_OFFSET) == VERSION
+                    && buffer.getInt(RECORD_SIZE_OFFSET) == RECORD_SIZE && buffer.getLong(CAPACITY_OFFSET) == capacity) {
+                writeCount = buffer.getLong(WRITE_COUNT_OFFSET);
+            } else {
+                buffer.putLong(MAGIC_OFFSET, MAGIC);
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+                buffer.putLong(CAPACITY_OFFSET, capacity);
+                buffer.putLong(WRITE_COUNT_OFFSET, 0L);
+            }
+            return new TraceWriter(channel, buffer, capacity, writeCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Append one measurement. Does not allocate.
+     *
+     * @param algorithmId caller-defined algorithm identifier (e.g. an enum ordinal)
+     * @param dataTypeId caller-defined input type identifier (e.g. an enum ordinal)
+     * @param size input size
+     * @param nanos measured duration in nanoseconds
+     * @param joules measured energy in Joules (0 when energy is not available)
+     */
+    public void record(int algorithmId, int dataTypeId, int size, long nanos, double joules) {
+        int offset = (int) (HEADER_SIZE + (writeCount % capacity) * RECORD_SIZE);
+        buffer.putLong(offset + TIMESTAMP_FIELD, epochBaseNanos + (System.nanoTime() - nanoTimeBase));
+        buffer.putLong(offset + NANOS_FIELD, nanos);
+        buffer.putDouble(offset + JOULES_FIELD, joules);
+        buffer.putInt(offset + SIZE_FIELD, size);
+        buffer.putShort(offset + ALGORITHM_FIELD, (short) algorithmId);
+        buffer.putShort(offset + DATA_TYPE_FIELD, (short) dataTypeId);
+        // The count is published after the record, so a reader never sees a half-written entry as valid
+        writeCount++;
+        buffer.putLong(WRITE_COUNT_OFFSET, writeCount);
+    }
+
+    /**
+     * @return total records written to this trace, including overwritten ones
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Flush the mapped pages to disk and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
@@ -1,5 +1,6 @@
 package br.edu.ufabc.energy.util;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 import java.util.Arrays;
 
@@ -10,6 +11,10 @@ public class DataGenerator {
     
     private static final Random random = new Random(42); // Seed fixo para reprodutibilidade
 
+    // Alfabeto e tamanho padrão do sufixo dos identificadores gerados
+    private static final char[] KEY_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final int KEY_SUFFIX_LENGTH = 12;
+
     /**
      * Gera um array de inteiros aleatórios
      */
@@ -81,6 +86,66 @@ public class DataGenerator {
         return Arrays.copyOf(original, original.length);
     }
 
+    /**
+     * Gera identificadores que compartilham um prefixo de prefixLength caracteres,
+     * seguido de um sufixo aleatório de 12 caracteres
+     */
+    public static String[] generateStrings(int size, int prefixLength) {
+        return generateStrings(size, prefixLength, KEY_SUFFIX_LENGTH);
+    }
+
+    /**
+     * Gera identificadores com prefixo comum de prefixLength caracteres e sufixo
+     * aleatório de suffixLength caracteres (alfabeto [a-z0-9])
+     */
+    public static String[] generateStrings(int size, int prefixLength, int suffixLength) {
+        char[] chars = new char[prefixLength + suffixLength];
+        for (int i = 0; i < prefixLength; i++) {
+            chars[i] = KEY_ALPHABET[random.nextInt(KEY_ALPHABET.length)];
+        }
+
+        String[] keys = new String[size];
+        for (int k = 0; k < size; k++) {
+            for (int i = prefixLength; i < chars.length; i++) {
+                chars[i] = KEY_ALPHABET[random.nextInt(KEY_ALPHABET.length)];
+            }
+            keys[k] = new String(chars);
+        }
+        return keys;
+    }
+
+    /**
+     * Gera chaves byte[] com prefixo comum, com o mesmo formato de generateStrings
+     */
+    public static byte[][] generateByteKeys(int size, int prefixLength) {
+        return toByteKeys(generateStrings(size, prefixLength));
+    }
+
+    /**
+     * Converte strings em chaves byte[] (UTF-8)
+     */
+    public static byte[][] toByteKeys(String[] keys) {
+        byte[][] bytes = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            bytes[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    /**
+     * Cria uma cópia de um array de strings
+     */
+    public static String[] copyArray(String[] original) {
+        return Arrays.copyOf(original, original.length);
+    }
+
+    /**
+     * Cria uma cópia rasa de um array de chaves byte[] (as chaves não são copiadas)
+     */
+    public static byte[][] copyArray(byte[][] original) {
+        return Arrays.copyOf(original, original.length);
+    }
+
     /**
      * Enum para tipos de dados de entrada
      */
@@ -0,0 +1,168 @@
+package br.edu.ufabc.energy.util;
+
+/**
+ * Array de inteiros não negativos com largura fixa de bits, armazenado num long[].
+ *
+ * Os valores do DataGenerator cabem em cerca de log2(size * 10) bits; com 10^7
+ * elementos são 27 bits em vez de 32, e o tráfego de memória cai na mesma proporção.
+ * Um valor pode atravessar a fronteira entre duas palavras de 64 bits.
+ */
+public final class PackedIntArray {
+
+    private final long[] words;
+    private final int size;
+    private final int bitsPerValue;
+    private final long mask;
+
+    /**
+     * Cria um array zerado
+     *
+     * @param size número de elementos
+     * @param bitsPerValue largura de cada valor, de 1 a 31 bits
+     */
+    public PackedIntArray(int size, int bitsPerValue) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be non-negative: " + size);
+        }
+        if (bitsPerValue < 1 || bitsPerValue > 31) {
+            throw new IllegalArgumentException("Bits per value must be between 1 and 31: " + bitsPerValue);
+        }
+        this.size = size;
+        this.bitsPerValue = bitsPerValue;
+        this.mask = (1L << bitsPerValue) - 1;
+        this.words = new long[(int) (((long) size * bitsPerValue + 63) >>> 6)];
+    }
+
+    /**
+     * Empacota um int[] com a menor largura que comporta o maior valor
+     */
+    public static PackedIntArray of(int[] values) {
+        PackedIntArray packed = new PackedIntArray(values.length, bitsRequired(values));
+        packed.pack(values, 0, 0, values.length);
+        return packed;
+    }
+
+    /**
+     * Bits necessários para o maior valor do array (no mínimo 1)
+     */
+    public static int bitsRequired(int[] values) {
+        int or = 0;
+        for (int value : values) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Packed values must be non-negative: " + value);
+            }
+            or |= value;
+        }
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(or));
+    }
+
+    public int get(int index) {
+        long bitPos = (long) index * bitsPerValue;
+        int word = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        long value = words[word] >>> shift;
+        if (shift + bitsPerValue > 64) {
+            value |= words[word + 1] << (64 - shift);
+        }
+        return (int) (value & mask);
+    }
+
+    public void set(int index, int value) {
+        if ((value & ~mask) != 0) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in " + bitsPerValue + " bits");
+        }
+        long bitPos = (long) index * bitsPerValue;
+        int word = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        words[word] = (words[word] & ~(mask << shift)) | ((long) value << shift);
+        if (shift + bitsPerValue > 64) {
+            int written = 64 - shift;
+            words[word + 1] = (words[word + 1] & ~(mask >>> written)) | ((long) value >>> written);
+        }
+    }
+
+    /**
+     * Desempacota length valores a partir de from em dest[destPos..]
+     */
+    public void unpack(int from, int[] dest, int destPos, int length) {
+        checkRange(from, length);
+        // Cursor de bits sequencial: evita a multiplicação por elemento do get
+        long bitPos = (long) from * bitsPerValue;
+        for (int i = 0; i < length; i++) {
+            int word = (int) (bitPos >>> 6);
+            int shift = (int) (bitPos & 63);
+            long value = words[word] >>> shift;
+            if (shift + bitsPerValue > 64) {
+                value |= words[word + 1] << (64 - shift);
+            }
+            dest[destPos + i] = (int) (value & mask);
+            bitPos += bitsPerValue;
+        }
+    }
+
+    /**
+     * Empacota length valores de src[srcPos..] a partir da posição to
+     */
+    public void pack(int[] src, int srcPos, int to, int length) {
+        checkRange(to, length);
+        long bitPos = (long) to * bitsPerValue;
+        for (int i = 0; i < length; i++) {
+            int value = src[srcPos + i];
+            if ((value & ~mask) != 0) {
+                throw new IllegalArgumentException("Value " + value + " does not fit in " + bitsPerValue + " bits");
+            }
+            int word = (int) (bitPos >>> 6);
+            int shift = (int) (bitPos & 63);
+            words[word] = (words[word] & ~(mask << shift)) | ((long) value << shift);
+            if (shift + bitsPerValue > 64) {
+                int written = 64 - shift;
+                words[word + 1] = (words[word + 1] & ~(mask >>> written)) | ((long) value >>> written);
+            }
+            bitPos += bitsPerValue;
+        }
+    }
+
+    private void checkRange(int from, int length) {
+        if (from < 0 || length < 0 || from > size - length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length
+                + ") out of bounds for size " + size);
+        }
+    }
+
+    public int[] toIntArray() {
+        int[] values = new int[size];
+        unpack(0, values, 0, size);
+        return values;
+    }
+
+    /**
+     * Copia o conteúdo de outro array com o mesmo tamanho e largura
+     */
+    public void copyFrom(PackedIntArray other) {
+        if (other.size != size || other.bitsPerValue != bitsPerValue) {
+            throw new IllegalArgumentException("Incompatible packed arrays");
+        }
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    public PackedIntArray copy() {
+        PackedIntArray copy = new PackedIntArray(size, bitsPerValue);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getBitsPerValue() {
+        return bitsPerValue;
+    }
+
+    /**
+     * Bytes ocupados pelos dados empacotados (sem o cabeçalho dos objetos)
+     */
+    public long getFootprintBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
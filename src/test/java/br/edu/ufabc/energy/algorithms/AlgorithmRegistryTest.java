@@ -0,0 +1,62 @@
+package br.edu.ufabc.energy.algorithms;
+
+import br.edu.ufabc.energy.util.DataGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o registro de algoritmos
+ */
+class AlgorithmRegistryTest {
+
+    @Test
+    @DisplayName("Todos os algoritmos registrados ordenam todos os tipos de dados")
+    void testAllRegisteredAlgorithmsSort() {
+        for (AlgorithmRegistry algorithm : AlgorithmRegistry.values()) {
+            for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+                int[] arr = DataGenerator.generateArray(200, type);
+                int[] expected = DataGenerator.copyArray(arr);
+                Arrays.sort(expected);
+
+                algorithm.sort(arr);
+
+                assertArrayEquals(expected, arr, algorithm.getDisplayName() + " with " + type);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Nomes de exibição são únicos e resolvidos por fromName")
+    void testNames() {
+        Set<String> names = new HashSet<>();
+        for (AlgorithmRegistry algorithm : AlgorithmRegistry.values()) {
+            assertTrue(names.add(algorithm.getDisplayName()), "Duplicated name " + algorithm.getDisplayName());
+            assertSame(algorithm, AlgorithmRegistry.fromName(algorithm.getDisplayName()));
+            assertSame(algorithm, AlgorithmRegistry.fromName(algorithm.name()));
+        }
+        assertSame(AlgorithmRegistry.QUICK_SORT, AlgorithmRegistry.fromName("quickSort"));
+        assertThrows(IllegalArgumentException.class, () -> AlgorithmRegistry.fromName("noSuchSort"));
+    }
+
+    @Test
+    @DisplayName("Algoritmos quadráticos são pulados em tamanhos grandes")
+    void testRecommendedFor() {
+        List<AlgorithmRegistry> small = AlgorithmRegistry.recommendedFor(1000);
+        List<AlgorithmRegistry> large = AlgorithmRegistry.recommendedFor(1_000_000);
+
+        assertEquals(AlgorithmRegistry.values().length, small.size());
+        assertFalse(large.contains(AlgorithmRegistry.BUBBLE_SORT));
+        assertFalse(large.contains(AlgorithmRegistry.INSERTION_SORT));
+        assertTrue(large.contains(AlgorithmRegistry.JAVA_SORT));
+        for (AlgorithmRegistry algorithm : large) {
+            assertNotEquals(AlgorithmRegistry.Complexity.QUADRATIC, algorithm.getComplexity());
+        }
+    }
+}
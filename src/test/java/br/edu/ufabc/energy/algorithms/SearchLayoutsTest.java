@@ -0,0 +1,114 @@
+package br.edu.ufabc.energy.algorithms;
+
+import br.edu.ufabc.energy.util.DataGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os layouts de busca
+ */
+class SearchLayoutsTest {
+
+    private static final int[] SIZES = {1, 2, 15, 16, 17, 100, 289, 290, 1000, 5000};
+
+    private void assertLowerBounds(Function<int[], SearchLayout> builder) {
+        Random random = new Random(7);
+        for (int size : SIZES) {
+            for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+                int[] sorted = DataGenerator.generateArray(size, type);
+                Arrays.sort(sorted);
+                SearchLayout layout = builder.apply(sorted);
+
+                assertEquals(size, layout.size());
+                assertEquals(0, layout.lowerBound(Integer.MIN_VALUE));
+                assertEquals(size, layout.lowerBound(Integer.MAX_VALUE));
+                for (int q = 0; q < 200; q++) {
+                    int key = random.nextInt(size * 10 + 2) - 1;
+                    assertEquals(naiveLowerBound(sorted, key), layout.lowerBound(key),
+                        "size " + size + ", " + type + ", key " + key);
+                }
+            }
+        }
+    }
+
+    private void assertRanges(Function<int[], SearchLayout> builder) {
+        Random random = new Random(11);
+        for (int size : SIZES) {
+            int[] sorted = DataGenerator.generateArray(size, DataGenerator.DataType.WITH_DUPLICATES);
+            Arrays.sort(sorted);
+            SearchLayout layout = builder.apply(sorted);
+
+            for (int q = 0; q < 100; q++) {
+                int from = random.nextInt(size + 2) - 1;
+                int to = from + random.nextInt(size / 4 + 2);
+                int[] expected = Arrays.copyOfRange(sorted, naiveLowerBound(sorted, from), naiveLowerBound(sorted, to));
+
+                assertArrayEquals(expected, layout.rangeQuery(from, to), "size " + size + ", [" + from + ", " + to + ")");
+                assertEquals(expected.length, layout.countInRange(from, to));
+            }
+            assertEquals(0, layout.rangeQuery(5, 5).length);
+            assertEquals(0, layout.countInRange(5, 1));
+        }
+    }
+
+    private static int naiveLowerBound(int[] sorted, int key) {
+        int i = 0;
+        while (i < sorted.length && sorted[i] < key) {
+            i++;
+        }
+        return i;
+    }
+
+    @Test
+    @DisplayName("Teste Busca Binária - lower bound e intervalos")
+    void testBinarySearch() {
+        assertLowerBounds(SearchLayouts::binarySearch);
+        assertRanges(SearchLayouts::binarySearch);
+    }
+
+    @Test
+    @DisplayName("Teste Eytzinger - lower bound e intervalos")
+    void testEytzinger() {
+        assertLowerBounds(SearchLayouts::eytzinger);
+        assertRanges(SearchLayouts::eytzinger);
+    }
+
+    @Test
+    @DisplayName("Teste B+-tree estática - lower bound e intervalos")
+    void testStaticBPlusTree() {
+        assertLowerBounds(SearchLayouts::staticBPlusTree);
+        assertRanges(SearchLayouts::staticBPlusTree);
+    }
+
+    @Test
+    @DisplayName("B+-tree estática com valores extremos e muitas duplicatas")
+    void testStaticBPlusTreeExtremes() {
+        int[] sorted = new int[1000];
+        Arrays.fill(sorted, 0, 500, 3);
+        Arrays.fill(sorted, 500, 1000, Integer.MAX_VALUE);
+        SearchLayout tree = SearchLayouts.staticBPlusTree(sorted);
+
+        assertEquals(0, tree.lowerBound(3));
+        assertEquals(500, tree.lowerBound(4));
+        assertEquals(500, tree.lowerBound(Integer.MAX_VALUE));
+        assertEquals(500, tree.countInRange(Integer.MIN_VALUE, 4));
+    }
+
+    @Test
+    @DisplayName("Layouts sobre array vazio")
+    void testEmpty() {
+        for (Function<int[], SearchLayout> builder : Arrays.<Function<int[], SearchLayout>>asList(
+                SearchLayouts::binarySearch, SearchLayouts::eytzinger, SearchLayouts::staticBPlusTree)) {
+            SearchLayout layout = builder.apply(new int[0]);
+            assertEquals(0, layout.size());
+            assertEquals(0, layout.lowerBound(42));
+            assertEquals(0, layout.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE).length);
+        }
+    }
+}
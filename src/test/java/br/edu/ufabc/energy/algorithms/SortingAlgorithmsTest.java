@@ -1,6 +1,7 @@
 package br.edu.ufabc.energy.algorithms;
 
 import br.edu.ufabc.energy.util.DataGenerator;
+import br.edu.ufabc.energy.util.PackedIntArray;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -93,6 +94,52 @@ class SortingAlgorithmsTest {
         assertArrayEquals(expected, arr);
     }
 
+    @Test
+    @DisplayName("Algoritmos adaptativos e Shell Sort - Array básico")
+    void testAdaptiveAndShellSorts() {
+        int[] arr = {64, 34, 25, 12, 22, 11, 90};
+        int[] expected = {11, 12, 22, 25, 34, 64, 90};
+
+        int[] testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.adaptiveBubbleSort(testArr);
+        assertArrayEquals(expected, testArr);
+
+        testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.cocktailSort(testArr);
+        assertArrayEquals(expected, testArr);
+
+        testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.binaryInsertionSort(testArr);
+        assertArrayEquals(expected, testArr);
+
+        testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.adaptiveSelectionSort(testArr);
+        assertArrayEquals(expected, testArr);
+
+        testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.shellSortCiura(testArr);
+        assertArrayEquals(expected, testArr);
+
+        testArr = DataGenerator.copyArray(arr);
+        SortingAlgorithms.shellSortTokuda(testArr);
+        assertArrayEquals(expected, testArr);
+    }
+
+    @Test
+    @DisplayName("Algoritmos adaptativos com todos os tipos de dados")
+    void testAdaptiveSortsWithDataTypes() {
+        for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+            int[] arr = DataGenerator.generateArray(300, type);
+
+            testSortingAlgorithm(arr, SortingAlgorithms::adaptiveBubbleSort);
+            testSortingAlgorithm(arr, SortingAlgorithms::cocktailSort);
+            testSortingAlgorithm(arr, SortingAlgorithms::binaryInsertionSort);
+            testSortingAlgorithm(arr, SortingAlgorithms::adaptiveSelectionSort);
+            testSortingAlgorithm(arr, SortingAlgorithms::shellSortCiura);
+            testSortingAlgorithm(arr, SortingAlgorithms::shellSortTokuda);
+        }
+    }
+
     @Test
     @DisplayName("Array vazio")
     void testEmptyArray() {
@@ -175,6 +222,13 @@ class SortingAlgorithmsTest {
         testSortingAlgorithm(arr, SortingAlgorithms::selectionSort);
         testSortingAlgorithm(arr, SortingAlgorithms::heapSort);
         testSortingAlgorithm(arr, SortingAlgorithms::javaSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::multiwayMergeSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::adaptiveBubbleSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::cocktailSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::binaryInsertionSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::adaptiveSelectionSort);
+        testSortingAlgorithm(arr, SortingAlgorithms::shellSortCiura);
+        testSortingAlgorithm(arr, SortingAlgorithms::shellSortTokuda);
     }
 
     @Test
@@ -197,6 +251,98 @@ class SortingAlgorithmsTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8, 16, 64})
+    @DisplayName("Quick Sort e Merge Sort com diferentes cutoffs de insertion sort")
+    void testInsertionSortCutoffs(int cutoff) {
+        for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+            int[] arr = DataGenerator.generateArray(500, type);
+
+            testSortingAlgorithm(arr, a -> SortingAlgorithms.quickSort(a, cutoff));
+            testSortingAlgorithm(arr, a -> SortingAlgorithms.mergeSort(a, cutoff));
+        }
+    }
+
+    @Test
+    @DisplayName("Java Sort com limiar de paralelismo")
+    void testJavaSortParallelThreshold() {
+        int[] arr = DataGenerator.generateArray(10000, DataGenerator.DataType.RANDOM);
+
+        testSortingAlgorithm(arr, a -> SortingAlgorithms.javaSort(a, 1));
+        testSortingAlgorithm(arr, a -> SortingAlgorithms.javaSort(a, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Auto Sort usa o perfil carregado")
+    void testAutoSort() {
+        assertNotNull(SortingAlgorithms.getProfile());
+
+        testSortingAlgorithm(new int[0], SortingAlgorithms::autoSort);
+        testSortingAlgorithm(DataGenerator.generateArray(1000, DataGenerator.DataType.RANDOM),
+            SortingAlgorithms::autoSort);
+    }
+
+    @Test
+    @DisplayName("Multiway Merge Sort - Array básico")
+    void testMultiwayMergeSort() {
+        int[] arr = {64, 34, 25, 12, 22, 11, 90};
+        int[] expected = {11, 12, 22, 25, 34, 64, 90};
+
+        SortingAlgorithms.multiwayMergeSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 7, 64})
+    @DisplayName("Multiway Merge Sort com blocos pequenos e várias passadas")
+    void testMultiwayMergeSortSmallBlocks(int fanIn) {
+        for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+            int[] arr = DataGenerator.generateArray(1000, type);
+
+            testSortingAlgorithm(arr, a -> SortingAlgorithms.multiwayMergeSort(a, 16, fanIn));
+            testSortingAlgorithm(arr, a -> SortingAlgorithms.multiwayMergeSort(a, 1, fanIn));
+        }
+        testSortingAlgorithm(new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1},
+            a -> SortingAlgorithms.multiwayMergeSort(a, 1, fanIn));
+    }
+
+    @Test
+    @DisplayName("Radix Sort com negativos e extremos")
+    void testRadixSort() {
+        for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+            testSortingAlgorithm(DataGenerator.generateArray(5000, type), SortingAlgorithms::radixSort);
+        }
+        Random random = new Random(11);
+        int[] arr = new int[3000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt();
+        }
+        arr[0] = Integer.MIN_VALUE;
+        arr[1] = Integer.MAX_VALUE;
+        testSortingAlgorithm(arr, SortingAlgorithms::radixSort);
+        testSortingAlgorithm(new int[] {7, 7, 7, -7, 7}, SortingAlgorithms::radixSort);
+    }
+
+    @Test
+    @DisplayName("Radix Sort sobre array empacotado")
+    void testPackedRadixSort() {
+        for (DataGenerator.DataType type : DataGenerator.DataType.values()) {
+            for (int size : new int[] {1, 2, 100, 4096, 4097, 20000}) {
+                int[] values = DataGenerator.generateArray(size, type);
+                PackedIntArray packed = PackedIntArray.of(values);
+
+                SortingAlgorithms.radixSort(packed);
+
+                Arrays.sort(values);
+                assertArrayEquals(values, packed.toIntArray(), type + ", size " + size);
+            }
+        }
+        PackedIntArray empty = new PackedIntArray(0, 5);
+        SortingAlgorithms.radixSort(empty);
+        assertEquals(0, empty.size());
+    }
+
     private void testSortingAlgorithm(int[] originalArray, SortingAlgorithm algorithm) {
         int[] arr = DataGenerator.copyArray(originalArray);
         algorithm.sort(arr);
@@ -216,10 +362,5 @@ class SortingAlgorithmsTest {
         }
         return true;
     }
-
-    @FunctionalInterface
-    private interface SortingAlgorithm {
-        void sort(int[] array);
-    }
 }
 
@@ -0,0 +1,101 @@
+package br.edu.ufabc.energy.algorithms;
+
+import br.edu.ufabc.energy.util.DataGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os algoritmos de ordenação de strings
+ */
+class StringSortingAlgorithmsTest {
+
+    private void assertSortsStrings(Consumer<String[]> sorter) {
+        for (int size : new int[] {0, 1, 2, 11, 12, 16, 17, 100, 2000}) {
+            for (int prefix : new int[] {0, 3, 40}) {
+                String[] arr = DataGenerator.generateStrings(size, prefix, 4);
+                String[] expected = DataGenerator.copyArray(arr);
+                Arrays.sort(expected);
+
+                sorter.accept(arr);
+
+                assertArrayEquals(expected, arr, "size " + size + ", prefix " + prefix);
+            }
+        }
+        String[] mixed = mixedStrings(500);
+        String[] expected = DataGenerator.copyArray(mixed);
+        Arrays.sort(expected);
+        sorter.accept(mixed);
+        assertArrayEquals(expected, mixed, "mixed lengths and non-ASCII");
+    }
+
+    private void assertSortsBytes(Consumer<byte[][]> sorter) {
+        for (int size : new int[] {0, 1, 2, 11, 12, 16, 17, 100, 2000}) {
+            for (int prefix : new int[] {0, 3, 40}) {
+                byte[][] arr = DataGenerator.generateByteKeys(size, prefix);
+                byte[][] expected = DataGenerator.copyArray(arr);
+                Arrays.sort(expected, Arrays::compareUnsigned);
+
+                sorter.accept(arr);
+
+                assertArrayEquals(expected, arr, "size " + size + ", prefix " + prefix);
+            }
+        }
+        byte[][] mixed = DataGenerator.toByteKeys(mixedStrings(500));
+        byte[][] expected = DataGenerator.copyArray(mixed);
+        Arrays.sort(expected, Arrays::compareUnsigned);
+        sorter.accept(mixed);
+        assertArrayEquals(expected, mixed, "mixed lengths and non-ASCII");
+    }
+
+    // Tamanhos variados, vazias, prefixos umas das outras, duplicatas e chars fora do ASCII
+    private static String[] mixedStrings(int size) {
+        String[] pool = {"", "a", "ab", "abc", "abd", "b", "é", "éa", "zz", "中文", "中", "￿", "A", "~"};
+        Random random = new Random(3);
+        String[] arr = new String[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = pool[random.nextInt(pool.length)] + pool[random.nextInt(pool.length)];
+        }
+        return arr;
+    }
+
+    @Test
+    @DisplayName("Teste MSD Radix Sort - String")
+    void testMsdRadixSortStrings() {
+        assertSortsStrings(StringSortingAlgorithms::msdRadixSort);
+    }
+
+    @Test
+    @DisplayName("Teste MSD Radix Sort - byte[]")
+    void testMsdRadixSortBytes() {
+        assertSortsBytes(StringSortingAlgorithms::msdRadixSort);
+    }
+
+    @Test
+    @DisplayName("Teste Multikey Quicksort - String")
+    void testMultikeyQuickSortStrings() {
+        assertSortsStrings(StringSortingAlgorithms::multikeyQuickSort);
+    }
+
+    @Test
+    @DisplayName("Teste Multikey Quicksort - byte[]")
+    void testMultikeyQuickSortBytes() {
+        assertSortsBytes(StringSortingAlgorithms::multikeyQuickSort);
+    }
+
+    @Test
+    @DisplayName("Gerador de strings respeita o prefixo comum")
+    void testGenerateStrings() {
+        String[] keys = DataGenerator.generateStrings(100, 20);
+        String prefix = keys[0].substring(0, 20);
+        for (String key : keys) {
+            assertEquals(32, key.length());
+            assertTrue(key.startsWith(prefix));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.edu.ufabc.energy.algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o perfil de ajuste
+ */
+class TuningProfileTest {
+
+    @Test
+    @DisplayName("Perfil padrão preserva o comportamento clássico")
+    void testDefaults() {
+        TuningProfile profile = TuningProfile.defaults();
+
+        assertEquals(TuningProfile.DEFAULT_INSERTION_SORT_CUTOFF, profile.getInsertionSortCutoff());
+        assertEquals(TuningProfile.DEFAULT_PARALLEL_THRESHOLD, profile.getParallelThreshold());
+        assertEquals(TuningProfile.DEFAULT_ALGORITHM, profile.algorithmFor(100));
+    }
+
+    @Test
+    @DisplayName("Escolha de algoritmo por faixa de tamanho")
+    void testAlgorithmFor() {
+        Map<Integer, String> algorithms = new TreeMap<>();
+        algorithms.put(64, "insertionSort");
+        algorithms.put(4096, "quickSort");
+        TuningProfile profile = new TuningProfile(16, 1 << 16, algorithms);
+
+        assertEquals("insertionSort", profile.algorithmFor(10));
+        assertEquals("insertionSort", profile.algorithmFor(64));
+        assertEquals("quickSort", profile.algorithmFor(65));
+        assertEquals(TuningProfile.DEFAULT_ALGORITHM, profile.algorithmFor(100000));
+    }
+
+    @Test
+    @DisplayName("Paralelismo só quando alguma faixa usa javaSort acima do limiar")
+    void testUsesParallelSort() {
+        assertFalse(TuningProfile.defaults().usesParallelSort());
+
+        Map<Integer, String> algorithms = new TreeMap<>();
+        algorithms.put(Integer.MAX_VALUE, "quickSort");
+        // Limiar definido, mas nenhum tamanho chega ao javaSort
+        assertFalse(new TuningProfile(16, 1000, algorithms).usesParallelSort());
+
+        algorithms.put(5000, "javaSort");
+        // javaSort só até 5000 elementos, abaixo do limiar
+        assertFalse(new TuningProfile(16, 10000, algorithms).usesParallelSort());
+        assertTrue(new TuningProfile(16, 5000, algorithms).usesParallelSort());
+
+        algorithms.remove(Integer.MAX_VALUE);
+        // Acima de 5000 vale o algoritmo padrão (javaSort)
+        assertTrue(new TuningProfile(16, 10000, algorithms).usesParallelSort());
+        assertTrue(new TuningProfile(16, 10000, new TreeMap<>()).usesParallelSort());
+    }
+
+    @Test
+    @DisplayName("Gravação e leitura do arquivo de perfil")
+    void testStoreAndLoad(@TempDir Path dir) throws IOException {
+        Map<Integer, String> algorithms = new TreeMap<>();
+        algorithms.put(256, "insertionSort");
+        algorithms.put(65536, "mergeSort");
+        TuningProfile original = new TuningProfile(24, 1 << 18, algorithms);
+
+        Path file = dir.resolve("profile.properties");
+        original.store(file, "test");
+        TuningProfile loaded = TuningProfile.load(file);
+
+        assertEquals(24, loaded.getInsertionSortCutoff());
+        assertEquals(1 << 18, loaded.getParallelThreshold());
+        assertEquals(algorithms, loaded.getAlgorithmBySize());
+    }
+
+    @Test
+    @DisplayName("Valores inválidos são rejeitados")
+    void testInvalidValues(@TempDir Path dir) throws IOException {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TuningProfile(-1, 1, new TreeMap<>()));
+
+        Path file = dir.resolve("broken.properties");
+        Files.write(file, "parallel.threshold=0\n".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> TuningProfile.load(file));
+
+        Map<Integer, String> misspelled = new TreeMap<>();
+        misspelled.put(64, "insertonSort");
+        assertThrows(IllegalArgumentException.class, () -> new TuningProfile(0, 1, misspelled));
+
+        Path unknown = dir.resolve("unknown.properties");
+        Files.write(unknown, "algorithm.maxSize.1024=bogoSort\n".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> TuningProfile.load(unknown));
+    }
+}
@@ -0,0 +1,88 @@
+package br.edu.ufabc.energy.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o histograma de janela deslizante do modo soak
+ */
+class RollingHistogramTest {
+
+    private static final double[] BOUNDS = RollingHistogram.linearBounds(10.0, 10.0, 10);
+
+    private static String render(RollingHistogram histogram, long nowMillis) {
+        StringBuilder out = new StringBuilder();
+        histogram.writeTo(out, "test", "", nowMillis);
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Quantis interpolados dentro do bucket")
+    void testQuantiles() {
+        RollingHistogram histogram = new RollingHistogram(BOUNDS, 1000L, 10);
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value, 0L);
+        }
+
+        assertEquals(50.0, histogram.quantile(0.50, 0L), 1e-9);
+        assertEquals(95.0, histogram.quantile(0.95, 0L), 1e-9);
+        assertEquals(99.0, histogram.quantile(0.99, 0L), 1e-9);
+        assertEquals(5.0, histogram.quantile(0.05, 0L), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Quantil sem amostras e acima do último limite")
+    void testQuantileEdges() {
+        RollingHistogram histogram = new RollingHistogram(BOUNDS, 1000L, 10);
+        assertTrue(Double.isNaN(histogram.quantile(0.5, 0L)));
+
+        histogram.record(1000.0, 0L);
+        assertEquals(100.0, histogram.quantile(0.5, 0L));
+        assertTrue(render(histogram, 0L).contains("test_bucket{le=\"100\"} 0\ntest_bucket{le=\"+Inf\"} 1\n"));
+    }
+
+    @Test
+    @DisplayName("Exposição Prometheus com buckets cumulativos, soma e contagem")
+    void testPrometheusFormat() {
+        RollingHistogram histogram = new RollingHistogram(BOUNDS, 1000L, 10);
+        histogram.record(5.0, 0L);
+        histogram.record(10.0, 0L);
+        histogram.record(15.5, 0L);
+
+        StringBuilder out = new StringBuilder();
+        histogram.writeTo(out, "test", "a=\"1\"", 0L);
+        String text = out.toString();
+
+        // Limite "le" é inclusivo: 10.0 cai no bucket 10
+        assertTrue(text.startsWith("test_bucket{a=\"1\",le=\"10\"} 2\ntest_bucket{a=\"1\",le=\"20\"} 3\n"), text);
+        assertTrue(text.contains("test_bucket{a=\"1\",le=\"+Inf\"} 3\n"), text);
+        assertTrue(text.contains("test_sum{a=\"1\"} 30.5000\n"), text);
+        assertTrue(text.endsWith("test_count{a=\"1\"} 3\n"), text);
+    }
+
+    @Test
+    @DisplayName("Fatias saem da janela quando o anel avança")
+    void testExpiryAcrossRotation() {
+        // Janela de 1 s em 10 fatias de 100 ms
+        RollingHistogram histogram = new RollingHistogram(BOUNDS, 1000L, 10);
+        histogram.record(15.0, 50L);
+        histogram.record(55.0, 550L);
+
+        assertTrue(render(histogram, 999L).contains("test_count 2\n"));
+        assertEquals(20.0, histogram.quantile(0.5, 999L), 1e-9);
+
+        // Em 1000 ms a fatia 0 completa a janela e sai
+        assertTrue(render(histogram, 1000L).contains("test_count 1\n"));
+        assertEquals(55.0, histogram.quantile(0.5, 1000L), 1e-9);
+
+        // Nova volta do anel reaproveita a posição 0 e descarta o conteúdo antigo
+        histogram.record(95.0, 1050L);
+        assertTrue(render(histogram, 1050L).contains("test_count 2\n"));
+        assertTrue(render(histogram, 1050L).contains("test_sum 150\n"));
+
+        assertTrue(render(histogram, 2100L).contains("test_count 0\n"));
+        assertTrue(Double.isNaN(histogram.quantile(0.5, 2100L)));
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.ufabc.energy.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a janela de alocação e GC do AllocationMonitor
+ */
+class AllocationMonitorTest {
+
+    @Test
+    @DisplayName("Fração de GC é o tempo de coleta sobre a janela")
+    void testGcFraction() {
+        // 5 ms de GC numa janela de 20 ms
+        AllocationMonitor.Measurement measurement = new AllocationMonitor.Measurement(1024L, 2L, 5L, 20_000_000L);
+
+        assertEquals(1024L, measurement.getAllocatedBytes());
+        assertEquals(2L, measurement.getGcCount());
+        assertEquals(5L, measurement.getGcTimeMillis());
+        assertEquals(20_000_000L, measurement.getElapsedNanos());
+        assertEquals(0.25, measurement.getGcFraction(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Fração de GC fica limitada a [0, 1]")
+    void testGcFractionClamp() {
+        // Tempo de coleta em ms arredondado para cima pode passar da janela
+        assertEquals(1.0, new AllocationMonitor.Measurement(0L, 1L, 3L, 1_000_000L).getGcFraction());
+        assertEquals(0.0, new AllocationMonitor.Measurement(0L, 0L, -1L, 1_000_000L).getGcFraction());
+    }
+
+    @Test
+    @DisplayName("Janela de duração zero não divide por zero")
+    void testZeroLengthWindow() {
+        assertEquals(0.0, new AllocationMonitor.Measurement(0L, 1L, 4L, 0L).getGcFraction());
+        assertEquals(0.0, new AllocationMonitor.Measurement(0L, 0L, 0L, -5L).getGcFraction());
+        assertEquals(0.0, AllocationMonitor.Measurement.EMPTY.getGcFraction());
+        assertEquals(0L, AllocationMonitor.Measurement.EMPTY.getAllocatedBytes());
+    }
+
+    @Test
+    @DisplayName("Janela real mede as alocações da thread")
+    void testMeasuresAllocation() {
+        if (!AllocationMonitor.isAllocationCounterAvailable()) {
+            return;
+        }
+        AllocationMonitor.startMeasurement();
+        int[][] blocks = new int[16][];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new int[16 * 1024];
+        }
+        AllocationMonitor.Measurement measurement = AllocationMonitor.stopMeasurement();
+
+        assertTrue(blocks[15].length > 0);
+        assertTrue(measurement.getAllocatedBytes() >= 16L * 16 * 1024 * Integer.BYTES,
+            "allocated " + measurement.getAllocatedBytes());
+        assertTrue(measurement.getElapsedNanos() > 0);
+    }
+}
@@ -0,0 +1,119 @@
+package br.edu.ufabc.energy.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a decomposição de energia por domínio e as diferenças do powercap
+ */
+class EnergyBreakdownTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    private static double[] domains(double pkg, double core, double uncore, double dram) {
+        double[] values = new double[EnergyDomain.values().length];
+        values[EnergyDomain.PACKAGE.ordinal()] = pkg;
+        values[EnergyDomain.CORE.ordinal()] = core;
+        values[EnergyDomain.UNCORE.ordinal()] = uncore;
+        values[EnergyDomain.DRAM.ordinal()] = dram;
+        return values;
+    }
+
+    // Zonas sem canal aberto: deltaJoules e os totais só usam domínio e faixa
+    private static RaplDomainReader reader(EnergyDomain[] domains, long[] maxRanges) {
+        RaplDomainReader.Zone[] zones = new RaplDomainReader.Zone[domains.length];
+        for (int i = 0; i < domains.length; i++) {
+            zones[i] = new RaplDomainReader.Zone(domains[i], null, maxRanges[i]);
+        }
+        return new RaplDomainReader(Arrays.asList(zones));
+    }
+
+    @Test
+    @DisplayName("Energia líquida desconta a potência ociosa e não fica negativa")
+    void testNetSubtractsIdle() {
+        // 2 s de sessão: ocioso de 3 W no pacote = 6 J, de 5 W na DRAM = 10 J
+        EnergyBreakdown breakdown = new EnergyBreakdown(domains(10.0, 4.0, 1.0, 8.0),
+            domains(3.0, 1.0, 0.0, 5.0), 2 * ONE_SECOND);
+
+        assertEquals(4.0, breakdown.getNet(EnergyDomain.PACKAGE), 1e-12);
+        assertEquals(2.0, breakdown.getNet(EnergyDomain.CORE), 1e-12);
+        assertEquals(1.0, breakdown.getNet(EnergyDomain.UNCORE), 1e-12);
+        assertEquals(0.0, breakdown.getNet(EnergyDomain.DRAM));
+        assertEquals(4.0, breakdown.getNetTotal(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Domínio indisponível é NaN e conta como 0 nos totais")
+    void testUnavailableDomain() {
+        EnergyBreakdown breakdown = new EnergyBreakdown(domains(10.0, Double.NaN, Double.NaN, 3.0),
+            domains(1.0, 1.0, 1.0, 1.0), ONE_SECOND);
+
+        assertFalse(breakdown.isAvailable(EnergyDomain.CORE));
+        assertTrue(Double.isNaN(breakdown.getGross(EnergyDomain.CORE)));
+        assertTrue(Double.isNaN(breakdown.getNet(EnergyDomain.UNCORE)));
+        assertTrue(breakdown.isAvailable(EnergyDomain.DRAM));
+        assertEquals(11.0, breakdown.getNetTotal(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Total bruto é PACKAGE + DRAM, sem somar core e uncore de novo")
+    void testGrossTotal() {
+        EnergyBreakdown breakdown = new EnergyBreakdown(domains(10.0, 6.0, 2.0, 3.5),
+            new double[EnergyDomain.values().length], ONE_SECOND);
+
+        assertEquals(13.5, breakdown.getGrossTotal(), 1e-12);
+        assertEquals(breakdown.getGrossTotal(), breakdown.getNetTotal(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Totais são NaN quando nada foi medido")
+    void testTotalsWithoutMeasurement() {
+        assertTrue(Double.isNaN(EnergyBreakdown.EMPTY.getGrossTotal()));
+        assertTrue(Double.isNaN(EnergyBreakdown.EMPTY.getNetTotal()));
+
+        EnergyBreakdown coreOnly = new EnergyBreakdown(domains(Double.NaN, 2.0, Double.NaN, Double.NaN),
+            new double[EnergyDomain.values().length], ONE_SECOND);
+        assertTrue(Double.isNaN(coreOnly.getGrossTotal()));
+    }
+
+    @Test
+    @DisplayName("deltaJoules corrige a volta do contador e soma pacotes de vários sockets")
+    void testDeltaJoulesAcrossWrap() {
+        RaplDomainReader reader = reader(
+            new EnergyDomain[] {EnergyDomain.PACKAGE, EnergyDomain.PACKAGE, EnergyDomain.DRAM},
+            new long[] {10_000_000L, 10_000_000L, 4_000_000L});
+
+        // Primeiro pacote e DRAM dão a volta; o segundo pacote não
+        long[] start = {9_500_000L, 1_000_000L, 3_900_000L};
+        long[] end = {500_000L, 3_000_000L, 100_000L};
+        double[] joules = reader.deltaJoules(start, end);
+
+        assertEquals(1.0 + 2.0, joules[EnergyDomain.PACKAGE.ordinal()], 1e-12);
+        assertEquals(0.2, joules[EnergyDomain.DRAM.ordinal()], 1e-12);
+        assertTrue(Double.isNaN(joules[EnergyDomain.CORE.ordinal()]));
+        assertTrue(Double.isNaN(joules[EnergyDomain.UNCORE.ordinal()]));
+    }
+
+    @Test
+    @DisplayName("Total do contador ignora core e corrige a volta na diferença")
+    void testCounterTotalAcrossWrap() {
+        RaplDomainReader reader = reader(
+            new EnergyDomain[] {EnergyDomain.PACKAGE, EnergyDomain.CORE, EnergyDomain.DRAM},
+            new long[] {10_000_000L, 10_000_000L, 4_000_000L});
+
+        long[] start = {9_500_000L, 7_000_000L, 1_000_000L};
+        long[] end = {500_000L, 9_000_000L, 1_500_000L};
+        double before = reader.totalJoules(start);
+        double after = reader.totalJoules(end);
+
+        assertEquals(10.5, before, 1e-12);
+        assertEquals(2.0, after, 1e-12);
+        // Só o pacote deu a volta: 1 J do pacote + 0,5 J da DRAM
+        assertEquals(1.5, reader.unwrapTotal(after - before), 1e-9);
+        assertEquals(0.25, reader.unwrapTotal(0.25), 1e-12);
+    }
+}
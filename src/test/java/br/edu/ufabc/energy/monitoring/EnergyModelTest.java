@@ -0,0 +1,112 @@
+package br.edu.ufabc.energy.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o modelo de energia por software
+ */
+class EnergyModelTest {
+
+    @Test
+    @DisplayName("Ajuste recupera os coeficientes de dados sintéticos")
+    void testFitRecoversCoefficients() {
+        Random random = new Random(5);
+        List<EnergyModel.Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long wall = 50_000_000L + random.nextInt(200_000_000);
+            long cpu = (long) (wall * random.nextDouble());
+            long bytes = random.nextInt(500_000_000);
+            double joules = 4.0 * wall / 1e9 + 12.0 * cpu / 1e9 + 2e-9 * bytes;
+            samples.add(new EnergyModel.Sample(wall, cpu, bytes, joules));
+        }
+
+        EnergyModel model = EnergyModel.fit(samples);
+
+        assertEquals(4.0, model.getWallWatts(), 1e-6);
+        assertEquals(12.0, model.getCpuWatts(), 1e-6);
+        assertEquals(2e-9, model.getJoulesPerByte(), 1e-15);
+    }
+
+    @Test
+    @DisplayName("Coeficiente negativo é fixado em zero")
+    void testFitIsNonNegative() {
+        List<EnergyModel.Sample> samples = new ArrayList<>();
+        // Energia cai com a alocação: o ajuste livre daria joulesPerByte < 0
+        samples.add(new EnergyModel.Sample(100_000_000L, 100_000_000L, 0L, 2.0));
+        samples.add(new EnergyModel.Sample(100_000_000L, 50_000_000L, 1_000_000L, 1.0));
+        samples.add(new EnergyModel.Sample(200_000_000L, 100_000_000L, 9_000_000L, 1.5));
+
+        EnergyModel model = EnergyModel.fit(samples);
+
+        assertTrue(model.getWallWatts() >= 0);
+        assertTrue(model.getCpuWatts() >= 0);
+        assertEquals(0.0, model.getJoulesPerByte());
+    }
+
+    @Test
+    @DisplayName("Ajuste satisfaz as condições de otimalidade do NNLS")
+    void testFitIsOptimal() {
+        Random random = new Random(17);
+        List<EnergyModel.Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            long wall = 50_000_000L + random.nextInt(200_000_000);
+            // CPU quase colinear com o tempo de parede e energia que cai com a CPU
+            long cpu = (long) (wall * (0.9 + 0.1 * random.nextDouble()));
+            long bytes = random.nextInt(500_000_000);
+            double joules = 20.0 * wall / 1e9 - 6.0 * cpu / 1e9 + 1e-9 * bytes + random.nextGaussian() * 0.01;
+            samples.add(new EnergyModel.Sample(wall, cpu, bytes, joules));
+        }
+
+        EnergyModel model = EnergyModel.fit(samples);
+        double[] coefficients = {model.getWallWatts(), model.getCpuWatts(), model.getJoulesPerByte()};
+
+        // Gradiente do resíduo: nulo nos coeficientes positivos, não negativo nos fixados em zero
+        double[] gradient = new double[3];
+        double[] columnNorm = new double[3];
+        for (EnergyModel.Sample sample : samples) {
+            double[] x = sample.features();
+            double error = sample.getJoules();
+            for (int c = 0; c < 3; c++) {
+                error -= coefficients[c] * x[c];
+            }
+            for (int c = 0; c < 3; c++) {
+                gradient[c] -= x[c] * error;
+                columnNorm[c] += x[c] * x[c];
+            }
+        }
+        for (int c = 0; c < 3; c++) {
+            assertTrue(coefficients[c] >= 0, "coefficient " + c);
+            double relative = gradient[c] / Math.sqrt(columnNorm[c]);
+            if (coefficients[c] > 0) {
+                assertEquals(0.0, relative, 1e-6, "gradient " + c);
+            } else {
+                assertTrue(relative >= -1e-6, "gradient " + c);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Modelo gravado e relido é idêntico")
+    void testStoreAndLoad(@TempDir Path dir) throws IOException {
+        EnergyModel model = new EnergyModel(3.5, 15.25, 1.5e-9);
+        Path file = dir.resolve("model.properties");
+
+        model.store(file, "test");
+        EnergyModel loaded = EnergyModel.load(file);
+
+        assertEquals(model.getWallWatts(), loaded.getWallWatts());
+        assertEquals(model.getCpuWatts(), loaded.getCpuWatts());
+        assertEquals(model.getJoulesPerByte(), loaded.getJoulesPerByte());
+        assertEquals(3.5 + 15.25 * 0.5 + 1.5, loaded.estimate(1_000_000_000L, 500_000_000L, 1_000_000_000L), 1e-9);
+    }
+}
@@ -0,0 +1,140 @@
+package br.edu.ufabc.energy.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o formato binário do trace (TraceWriter e TraceReader)
+ */
+class TraceWriterTest {
+
+    private static final int CAPACITY = 4;
+
+    // O registro i usa i em todos os campos, para identificar a posição no anel
+    private static void writeRecords(TraceWriter writer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            writer.record(i, 100 + i, 1000 + i, 10_000L + i, i / 4.0);
+        }
+    }
+
+    private static void assertRecords(List<TraceReader.Entry> entries, int from, int to) {
+        assertEquals(to - from, entries.size());
+        long previousTimestamp = Long.MIN_VALUE;
+        for (int k = 0; k < entries.size(); k++) {
+            int i = from + k;
+            TraceReader.Entry entry = entries.get(k);
+            assertEquals(i, entry.getAlgorithmId(), "record " + k);
+            assertEquals(100 + i, entry.getDataTypeId());
+            assertEquals(1000 + i, entry.getSize());
+            assertEquals(10_000L + i, entry.getNanos());
+            assertEquals(i / 4.0, entry.getJoules());
+            assertTrue(entry.getTimestampEpochNanos() >= previousTimestamp, "timestamps in write order");
+            previousTimestamp = entry.getTimestampEpochNanos();
+        }
+    }
+
+    @Test
+    @DisplayName("Cabeçalho e registros little endian de 32 bytes, com volta no anel")
+    void testLayoutAfterWrap(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("trace.bin");
+        try (TraceWriter writer = TraceWriter.open(file, CAPACITY)) {
+            writeRecords(writer, 0, 10);
+            assertEquals(10, writer.getWriteCount());
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(64 + CAPACITY * 32, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals("SORTTRCE", new String(Arrays.copyOf(bytes, 8), StandardCharsets.US_ASCII));
+        assertEquals(1, buffer.getInt(8));
+        assertEquals(32, buffer.getInt(12));
+        assertEquals(CAPACITY, buffer.getLong(16));
+        assertEquals(10, buffer.getLong(24));
+
+        // 10 registros num anel de 4: o registro i está na posição i % 4
+        for (int i = 6; i < 10; i++) {
+            int offset = 64 + (i % CAPACITY) * 32;
+            assertTrue(buffer.getLong(offset) > 0, "timestamp");
+            assertEquals(10_000L + i, buffer.getLong(offset + 8));
+            assertEquals(i / 4.0, buffer.getDouble(offset + 16));
+            assertEquals(1000 + i, buffer.getInt(offset + 24));
+            assertEquals(i, buffer.getShort(offset + 28));
+            assertEquals(100 + i, buffer.getShort(offset + 30));
+        }
+
+        // O leitor começa pelo mais antigo sobrevivente, que está no meio do anel
+        assertRecords(TraceReader.readAll(file), 6, 10);
+    }
+
+    @Test
+    @DisplayName("Reabrir continua o trace após o último registro")
+    void testReopenContinues(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("trace.bin");
+        try (TraceWriter writer = TraceWriter.open(file, CAPACITY)) {
+            writeRecords(writer, 0, 3);
+        }
+        assertRecords(TraceReader.readAll(file), 0, 3);
+
+        try (TraceWriter writer = TraceWriter.open(file, CAPACITY)) {
+            assertEquals(3, writer.getWriteCount());
+            writeRecords(writer, 3, 7);
+        }
+        assertRecords(TraceReader.readAll(file), 3, 7);
+    }
+
+    @Test
+    @DisplayName("Capacidade diferente recomeça o trace")
+    void testReopenWithOtherCapacity(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("trace.bin");
+        try (TraceWriter writer = TraceWriter.open(file, CAPACITY)) {
+            writeRecords(writer, 0, 5);
+        }
+        try (TraceWriter writer = TraceWriter.open(file, 2)) {
+            assertEquals(0, writer.getWriteCount());
+            writeRecords(writer, 20, 21);
+        }
+        assertEquals(64 + 2 * 32, Files.size(file));
+        assertRecords(TraceReader.readAll(file), 20, 21);
+    }
+
+    @Test
+    @DisplayName("Arquivo que não é trace é rejeitado")
+    void testRejectsForeignFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[128]);
+        assertThrows(IOException.class, () -> TraceReader.readAll(file));
+
+        Files.write(file, new byte[10]);
+        assertThrows(IOException.class, () -> TraceReader.readAll(file));
+    }
+
+    @Test
+    @DisplayName("Cabeçalho com capacidade inválida é rejeitado")
+    void testRejectsCorruptCapacity(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("trace.bin");
+        try (TraceWriter writer = TraceWriter.open(file, CAPACITY)) {
+            writeRecords(writer, 0, 3);
+        }
+        byte[] valid = Files.readAllBytes(file);
+
+        for (long capacity : new long[] {0L, -1L, Long.MAX_VALUE, CAPACITY + 1}) {
+            byte[] bytes = valid.clone();
+            ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(16, capacity);
+            Files.write(file, bytes);
+            assertThrows(IOException.class, () -> TraceReader.readAll(file), "capacity " + capacity);
+        }
+    }
+}
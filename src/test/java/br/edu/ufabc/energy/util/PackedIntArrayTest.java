@@ -0,0 +1,53 @@
+package br.edu.ufabc.energy.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o array empacotado em bits
+ */
+class PackedIntArrayTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 8, 13, 17, 27, 31})
+    @DisplayName("Preserva os valores em qualquer largura")
+    void testRoundTrip(int bits) {
+        Random random = new Random(bits);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt() & (int) ((1L << bits) - 1);
+        }
+        values[0] = (int) ((1L << bits) - 1);
+        PackedIntArray packed = new PackedIntArray(values.length, bits);
+        packed.pack(values, 0, 0, values.length);
+
+        assertArrayEquals(values, packed.toIntArray());
+        for (int i = 0; i < values.length; i += 37) {
+            assertEquals(values[i], packed.get(i));
+        }
+        // Sobrescrever um valor não altera os vizinhos
+        packed.set(500, 0);
+        assertEquals(values[499], packed.get(499));
+        assertEquals(values[501], packed.get(501));
+        assertEquals(0, packed.get(500));
+        assertThrows(IllegalArgumentException.class, () -> packed.set(0, -1));
+    }
+
+    @Test
+    @DisplayName("Usa a menor largura possível")
+    void testFootprint() {
+        int[] values = DataGenerator.generateArray(100000, DataGenerator.DataType.RANDOM);
+        PackedIntArray packed = PackedIntArray.of(values);
+
+        assertEquals(20, packed.getBitsPerValue());
+        assertTrue(packed.getFootprintBytes() < 4L * values.length);
+        assertEquals(1, PackedIntArray.of(new int[] {0, 0}).getBitsPerValue());
+        assertThrows(IllegalArgumentException.class, () -> PackedIntArray.of(new int[] {1, -1}));
+    }
+}